@@ -0,0 +1,49 @@
+package com.example.bookjourneybackend.domain;
+
+import com.example.bookjourneybackend.domain.book.Book;
+import com.example.bookjourneybackend.domain.book.dto.response.BookInfo;
+import com.example.bookjourneybackend.domain.room.readTogether.Record;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.GetRecordFeedResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.RecordInfo;
+import com.example.bookjourneybackend.domain.user.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 (피드 한 페이지, 검색 결과 한 페이지).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    @Param({"20"})
+    private int size;
+
+    private List<Record> records;
+    private List<Book> books;
+
+    @Setup
+    public void setUp() {
+        records = new ArrayList<>();
+        books = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            User user = User.builder().userId((long) i).email("user" + i + "@bench.com").nickname("닉네임" + i).build();
+            records.add(Record.builder().recordId((long) i).user(user).bookPage(i * 3).content("기록 " + i).build());
+            books.add(Book.builder().bookId((long) i).bookTitle("도서 제목 " + i).authorName("작가").publisher("출판사").build());
+        }
+    }
+
+    @Benchmark
+    public GetRecordFeedResponse recordFeed() {
+        return GetRecordFeedResponse.of(records.stream().map(RecordInfo::from).toList(), true);
+    }
+
+    @Benchmark
+    public List<BookInfo> bookInfos() {
+        return books.stream().map(BookInfo::from).toList();
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.bookjourneybackend.domain;
+
+import com.example.bookjourneybackend.BookJourneyBackendApplication;
+import com.example.bookjourneybackend.domain.book.Book;
+import com.example.bookjourneybackend.domain.book.Genre;
+import com.example.bookjourneybackend.domain.book.dto.response.GetBookSearchResponse;
+import com.example.bookjourneybackend.domain.book.repository.BookRepository;
+import com.example.bookjourneybackend.domain.book.repository.GenreRepository;
+import com.example.bookjourneybackend.domain.book.service.BookService;
+import com.example.bookjourneybackend.domain.room.Room;
+import com.example.bookjourneybackend.domain.room.readTogether.Record;
+import com.example.bookjourneybackend.domain.room.readTogether.RecordLike;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.GetRecordFeedResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.RecordLikeRepository;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.RecordRepository;
+import com.example.bookjourneybackend.domain.room.readTogether.service.RecordService;
+import com.example.bookjourneybackend.domain.room.repository.RoomRepository;
+import com.example.bookjourneybackend.domain.user.User;
+import com.example.bookjourneybackend.domain.user.repository.UserRepository;
+import com.example.bookjourneybackend.global.entity.GenreType;
+import com.example.bookjourneybackend.global.entity.RoomType;
+import com.example.bookjourneybackend.global.entity.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * local 프로필(H2 MySQL 모드)로 애플리케이션을 띄우고 피드/좋아요/검색 조회를 서비스 진입점부터 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RepositoryBenchmark {
+
+    private static final int USERS = 200;
+    private static final int BOOKS = 2_000;
+    private static final int RECORDS = 1_000;
+    private static final int LIKES_PER_RECORD = 5;
+
+    private ConfigurableApplicationContext context;
+    private RecordService recordService;
+    private BookService bookService;
+    private RecordLikeRepository recordLikeRepository;
+    private RecordRepository recordRepository;
+    private UserRepository userRepository;
+    private TransactionTemplate readOnlyTransaction;
+
+    private Long roomId;
+    private List<Long> recordIds;
+    private List<Long> userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BookJourneyBackendApplication.class)
+                .properties("server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        recordService = context.getBean(RecordService.class);
+        bookService = context.getBean(BookService.class);
+        recordLikeRepository = context.getBean(RecordLikeRepository.class);
+        recordRepository = context.getBean(RecordRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> seed());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public GetRecordFeedResponse feedFirstPage() {
+        return recordService.getRecordFeed(roomId, null, null, 20);
+    }
+
+    @Benchmark
+    public GetRecordFeedResponse feedNextPage() {
+        return recordService.getRecordFeed(roomId, RECORDS / 2 * 3, recordIds.get(RECORDS / 2), 20);
+    }
+
+    @Benchmark
+    public Boolean likeExists() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long recordId = recordIds.get(random.nextInt(recordIds.size()));
+        Long userId = userIds.get(random.nextInt(userIds.size()));
+        return readOnlyTransaction.execute(status -> recordLikeRepository.existsByRecordAndUser(
+                recordRepository.getReferenceById(recordId), userRepository.getReferenceById(userId)));
+    }
+
+    @Benchmark
+    public GetBookSearchResponse search() {
+        return bookService.searchBooks("자바 프로그래밍", null, 20);
+    }
+
+    private void seed() {
+        Genre genre = context.getBean(GenreRepository.class).save(Genre.builder().genre(GenreType.SCIENCE).build());
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < BOOKS; i++) {
+            String title = (i % 10 == 0 ? "자바 프로그래밍 " : "소설 ") + i;
+            books.add(Book.builder().genre(genre).bookTitle(title).authorName("작가 " + i % 50).publisher("출판사").build());
+        }
+        books = context.getBean(BookRepository.class).saveAll(books);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder().email("bench" + i + "@bench.com").password("password").nickname("유저" + i).build());
+        }
+        users = userRepository.saveAll(users);
+        userIds = users.stream().map(User::getUserId).toList();
+
+        Room room = context.getBean(RoomRepository.class).save(Room.builder()
+                .roomType(RoomType.ALONE)
+                .userRole(UserRole.HOST)
+                .userPercentage(0.0)
+                .user(users.get(0))
+                .book(books.get(0))
+                .build());
+        roomId = room.getRoomId();
+
+        List<Record> records = new ArrayList<>();
+        for (int i = 0; i < RECORDS; i++) {
+            records.add(Record.builder().room(room).user(users.get(i % USERS)).bookPage(i * 3).content("기록 " + i).build());
+        }
+        records = recordRepository.saveAll(records);
+        recordIds = records.stream().map(Record::getRecordId).toList();
+
+        List<RecordLike> likes = new ArrayList<>();
+        for (int i = 0; i < RECORDS; i++) {
+            for (int j = 0; j < LIKES_PER_RECORD; j++) {
+                likes.add(RecordLike.builder().record(records.get(i)).user(users.get((i + j) % USERS)).build());
+            }
+        }
+        recordLikeRepository.saveAll(likes);
+    }
+}
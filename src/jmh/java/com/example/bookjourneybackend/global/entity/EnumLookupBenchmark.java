@@ -0,0 +1,41 @@
+package com.example.bookjourneybackend.global.entity;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 호출되는 enum 조회. 미리 만든 맵 조회와 values() 순회를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnumLookupBenchmark {
+
+    //순회 비용이 가장 큰 마지막 상수와 없는 값
+    @Param({"기타", "소설/시/희곡", "없는장르"})
+    private String genreType;
+
+    @Param({"혼자읽기"})
+    private String roomType;
+
+    @Benchmark
+    public GenreType genreTypeLookup() {
+        return GenreType.getGenreType(genreType);
+    }
+
+    @Benchmark
+    public GenreType genreTypeValuesScan() {
+        for (GenreType value : GenreType.values()) {
+            if (value.getGenreType().equals(genreType)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public RoomType roomTypeFrom() {
+        return RoomType.from(roomType);
+    }
+}
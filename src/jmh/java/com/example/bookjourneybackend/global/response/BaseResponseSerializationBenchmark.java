@@ -0,0 +1,57 @@
+package com.example.bookjourneybackend.global.response;
+
+import com.example.bookjourneybackend.domain.book.dto.response.BookInfo;
+import com.example.bookjourneybackend.domain.book.dto.response.GetBookSearchResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.GetRecordFeedResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.RecordInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피드/검색 응답을 BaseResponse 로 감싸 직렬화하는 비용 (Spring MVC 와 같은 ObjectMapper 설정).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BaseResponseSerializationBenchmark {
+
+    @Param({"20", "50"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private BaseResponse<GetRecordFeedResponse> feedResponse;
+    private BaseResponse<GetBookSearchResponse> searchResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<RecordInfo> records = new ArrayList<>();
+        List<BookInfo> books = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            records.add(new RecordInfo((long) i, (long) i % 7, "닉네임" + i, i * 3,
+                    "오늘 읽은 부분 중에서 가장 기억에 남는 문장은 " + i + "쪽의 문장이었다.", i % 5, now.minusMinutes(i)));
+            books.add(new BookInfo((long) i, "도서 제목 " + i, "작가 " + i, "출판사"));
+        }
+        feedResponse = BaseResponse.ok(GetRecordFeedResponse.of(records, true));
+        searchResponse = BaseResponse.ok(new GetBookSearchResponse(books));
+    }
+
+    @Benchmark
+    public byte[] feed() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(feedResponse);
+    }
+
+    @Benchmark
+    public byte[] search() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(searchResponse);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.bookjourneybackend.domain.book;
 
 import com.example.bookjourneybackend.global.entity.BaseEntity;
+import com.example.bookjourneybackend.global.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,7 +14,10 @@ import lombok.NoArgsConstructor;
 public class BestSeller extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "best_seller_id_generator")
+    @TableGenerator(name = "best_seller_id_generator", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "best_seller", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long bestSellerId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,21 +1,33 @@
 package com.example.bookjourneybackend.domain.book;
 
+import com.example.bookjourneybackend.domain.book.search.BookSearchIndexListener;
 import com.example.bookjourneybackend.global.entity.BaseEntity;
+import com.example.bookjourneybackend.global.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "books")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book")
+@Table(name = "books", indexes = {
+        @Index(name = "idx_books_isbn_code", columnList = "isbn_code")
+})
+@EntityListeners(BookSearchIndexListener.class)
 @Getter
 @NoArgsConstructor
 public class Book extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "books_id_generator")
+    @TableGenerator(name = "books_id_generator", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "books", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long bookId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -58,4 +70,16 @@ public class Book extends BaseEntity {
         this.roomCount = roomCount;
         this.authorName = authorName;
     }
+
+    //카탈로그 적재 시 기존 책 정보 갱신
+    public void updateCatalog(Genre genre, String bookTitle, String publisher, LocalDateTime publishedDate,
+                              Integer pageCount, String description, String authorName) {
+        this.genre = genre;
+        this.bookTitle = bookTitle;
+        this.publisher = publisher;
+        this.publishedDate = publishedDate;
+        this.pageCount = pageCount;
+        this.description = description;
+        this.authorName = authorName;
+    }
 }
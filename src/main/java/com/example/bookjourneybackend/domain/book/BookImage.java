@@ -1,19 +1,27 @@
 package com.example.bookjourneybackend.domain.book;
 
 import com.example.bookjourneybackend.global.entity.BaseEntity;
+import com.example.bookjourneybackend.global.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book-image")
 @Table(name = "book_image")
 @Getter
 @NoArgsConstructor
 public class BookImage extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "book_image_id_generator")
+    @TableGenerator(name = "book_image_id_generator", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "book_image", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long bookImageId;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -37,4 +45,8 @@ public class BookImage extends BaseEntity {
         this.size = size;
         this.book = book;
     }
+
+    public void updateImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
 }
@@ -0,0 +1,41 @@
+package com.example.bookjourneybackend.domain.book.catalog;
+
+import com.example.bookjourneybackend.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//카탈로그 파일별 적재 진행 위치. 청크와 같은 트랜잭션에서 갱신되므로 재시작 시 이어서 적재할 수 있다
+@Entity
+@Table(name = "catalog_import_checkpoints")
+@Getter
+@NoArgsConstructor
+public class CatalogImportCheckpoint extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long checkpointId;
+
+    @Column(nullable = false, unique = true)
+    private String sourceName;
+
+    @Column(nullable = false)
+    private Long processedRows;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Builder
+    public CatalogImportCheckpoint(Long checkpointId, String sourceName, Long processedRows, boolean completed) {
+        this.checkpointId = checkpointId;
+        this.sourceName = sourceName;
+        this.processedRows = processedRows;
+        this.completed = completed;
+    }
+
+    public void updateProgress(long processedRows, boolean completed) {
+        this.processedRows = processedRows;
+        this.completed = completed;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.bookjourneybackend.domain.book.catalog;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface CatalogImportCheckpointRepository extends JpaRepository<CatalogImportCheckpoint, Long> {
+
+    Optional<CatalogImportCheckpoint> findBySourceName(String sourceName);
+}
@@ -0,0 +1,16 @@
+package com.example.bookjourneybackend.domain.book.catalog;
+
+public record CatalogImportResult(
+        long processedRows,
+        long inserted,
+        long updated,
+        long skipped
+) {
+    CatalogImportResult plus(CatalogImportResult other) {
+        return new CatalogImportResult(
+                processedRows + other.processedRows,
+                inserted + other.inserted,
+                updated + other.updated,
+                skipped + other.skipped);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.bookjourneybackend.domain.book.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * --catalog-import.path=/data/catalog.csv 로 기동하면 카탈로그를 적재한다.
+ * 같은 source-name 으로 다시 실행하면 마지막 체크포인트 이후부터 이어서 적재한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalog-import.path")
+public class CatalogImportRunner implements ApplicationRunner {
+
+    private final CatalogImportService catalogImportService;
+    private final Path path;
+    private final String sourceName;
+    private final boolean restart;
+
+    public CatalogImportRunner(CatalogImportService catalogImportService,
+                               @Value("${catalog-import.path}") String path,
+                               @Value("${catalog-import.source-name:}") String sourceName,
+                               @Value("${catalog-import.restart:false}") boolean restart) {
+        this.catalogImportService = catalogImportService;
+        this.path = Path.of(path);
+        this.sourceName = sourceName.isBlank() ? this.path.getFileName().toString() : sourceName;
+        this.restart = restart;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("[CatalogImport] importing {} as {}", path, sourceName);
+        catalogImportService.importCatalog(path, sourceName, restart);
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.bookjourneybackend.domain.book.catalog;
+
+import com.example.bookjourneybackend.domain.book.BestSeller;
+import com.example.bookjourneybackend.domain.book.Book;
+import com.example.bookjourneybackend.domain.book.BookImage;
+import com.example.bookjourneybackend.domain.book.Genre;
+import com.example.bookjourneybackend.domain.book.repository.BestSellerRepository;
+import com.example.bookjourneybackend.domain.book.repository.BookImageRepository;
+import com.example.bookjourneybackend.domain.book.repository.BookRepository;
+import com.example.bookjourneybackend.domain.book.repository.GenreRepository;
+import com.example.bookjourneybackend.global.entity.GenreType;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CSV/JSON 카탈로그를 스트리밍으로 읽어 chunk-size 단위 트랜잭션으로 Book/BookImage/BestSeller 를 upsert 한다.
+ * 청크마다 영속성 컨텍스트를 비우므로 메모리 사용량은 파일 크기와 무관하고,
+ * 처리한 행 수를 같은 트랜잭션에서 체크포인트로 남겨 중단된 적재를 이어서 진행할 수 있다.
+ */
+@Slf4j
+@Service
+public class CatalogImportService {
+
+    private final BookRepository bookRepository;
+    private final BookImageRepository bookImageRepository;
+    private final BestSellerRepository bestSellerRepository;
+    private final GenreRepository genreRepository;
+    private final CatalogImportCheckpointRepository checkpointRepository;
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CatalogImportService(BookRepository bookRepository,
+                                BookImageRepository bookImageRepository,
+                                BestSellerRepository bestSellerRepository,
+                                GenreRepository genreRepository,
+                                CatalogImportCheckpointRepository checkpointRepository,
+                                EntityManager em,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${catalog-import.chunk-size}") int chunkSize) {
+        this.bookRepository = bookRepository;
+        this.bookImageRepository = bookImageRepository;
+        this.bestSellerRepository = bestSellerRepository;
+        this.genreRepository = genreRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.em = em;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    public CatalogImportResult importCatalog(Path path, String sourceName, boolean restart) throws IOException {
+        Map<GenreType, Long> genreIds = transactionTemplate.execute(status -> loadGenreIds());
+        CatalogImportCheckpoint checkpoint = transactionTemplate.execute(status -> findOrCreateCheckpoint(sourceName, restart));
+        if (checkpoint.isCompleted()) {
+            log.info("[CatalogImport] {} already imported ({} rows), skipping", sourceName, checkpoint.getProcessedRows());
+            return new CatalogImportResult(checkpoint.getProcessedRows(), 0, 0, 0);
+        }
+
+        long resumeFrom = checkpoint.getProcessedRows();
+        long processed = resumeFrom;
+        CatalogImportResult total = new CatalogImportResult(0, 0, 0, 0);
+        long startedAt = System.nanoTime();
+
+        try (CatalogReader reader = CatalogReader.open(path)) {
+            for (long i = 0; i < resumeFrom && reader.hasNext(); i++) {
+                reader.next();
+            }
+            if (resumeFrom > 0) {
+                log.info("[CatalogImport] {} resuming after {} rows", sourceName, resumeFrom);
+            }
+
+            List<CatalogRow> chunk = new ArrayList<>(chunkSize);
+            while (reader.hasNext()) {
+                chunk.add(reader.next());
+                if (chunk.size() < chunkSize) {
+                    continue;
+                }
+                processed += chunk.size();
+                total = total.plus(importChunk(chunk, genreIds, checkpoint.getCheckpointId(), processed, false));
+                chunk.clear();
+                logProgress(sourceName, processed, processed - resumeFrom, startedAt);
+            }
+            processed += chunk.size();
+            total = total.plus(importChunk(chunk, genreIds, checkpoint.getCheckpointId(), processed, true));
+        }
+
+        logProgress(sourceName, processed, processed - resumeFrom, startedAt);
+        log.info("[CatalogImport] {} completed: inserted={}, updated={}, skipped={}",
+                sourceName, total.inserted(), total.updated(), total.skipped());
+        return new CatalogImportResult(processed, total.inserted(), total.updated(), total.skipped());
+    }
+
+    private CatalogImportResult importChunk(List<CatalogRow> rows, Map<GenreType, Long> genreIds,
+                                            Long checkpointId, long processed, boolean completed) {
+        return transactionTemplate.execute(status -> {
+            //같은 청크 안에서 isbn 이 중복되면 마지막 행 기준
+            Map<Long, CatalogRow> rowsByIsbn = new LinkedHashMap<>();
+            for (CatalogRow row : rows) {
+                Long isbn = parseLong(row.isbn());
+                if (isbn != null && row.title() != null && row.author() != null) {
+                    rowsByIsbn.put(isbn, row);
+                }
+            }
+            int skipped = rows.size() - rowsByIsbn.size();
+
+            Map<Long, Book> existingBooks = new HashMap<>();
+            if (!rowsByIsbn.isEmpty()) {
+                bookRepository.findAllByIsbnCodeIn(rowsByIsbn.keySet())
+                        .forEach(book -> existingBooks.putIfAbsent(book.getIsbnCode(), book));
+            }
+            Map<Long, BookImage> existingImages = new HashMap<>();
+            Set<Long> existingBestSellers = new HashSet<>();
+            if (!existingBooks.isEmpty()) {
+                bookImageRepository.findAllByBookIn(existingBooks.values())
+                        .forEach(image -> existingImages.put(image.getBook().getBookId(), image));
+                existingBestSellers.addAll(bestSellerRepository.findBookIdsByBookIdIn(
+                        existingBooks.values().stream().map(Book::getBookId).toList()));
+            }
+
+            int inserted = 0;
+            int updated = 0;
+            for (Map.Entry<Long, CatalogRow> entry : rowsByIsbn.entrySet()) {
+                CatalogRow row = entry.getValue();
+                Genre genre = em.getReference(Genre.class, genreIds.get(toGenreType(row.category())));
+
+                Book book = existingBooks.get(entry.getKey());
+                if (book == null) {
+                    book = Book.builder()
+                            .genre(genre)
+                            .isbnCode(entry.getKey())
+                            .bookTitle(truncate(row.title(), 100))
+                            .authorName(truncate(row.author(), 50))
+                            .publisher(truncate(row.publisher(), 255))
+                            .publishedDate(parseDate(row.publishedDate()))
+                            .pageCount(parseInteger(row.pageCount()))
+                            .description(truncate(row.description(), 1000))
+                            .roomCount(0)
+                            .build();
+                    em.persist(book);
+                    inserted++;
+                } else {
+                    book.updateCatalog(genre, truncate(row.title(), 100), truncate(row.publisher(), 255),
+                            parseDate(row.publishedDate()), parseInteger(row.pageCount()),
+                            truncate(row.description(), 1000), truncate(row.author(), 50));
+                    updated++;
+                }
+
+                if (row.imageUrl() != null) {
+                    BookImage image = existingImages.get(book.getBookId());
+                    if (image == null) {
+                        em.persist(BookImage.builder()
+                                .book(book)
+                                .imageUrl(row.imageUrl())
+                                .path(truncate(row.imageUrl(), 255))
+                                .size(0)
+                                .build());
+                    } else {
+                        image.updateImageUrl(row.imageUrl());
+                    }
+                }
+
+                if (Boolean.parseBoolean(row.bestSeller()) && !existingBestSellers.contains(book.getBookId())) {
+                    em.persist(BestSeller.builder()
+                            .genre(genre)
+                            .book(book)
+                            .build());
+                }
+            }
+
+            checkpointRepository.findById(checkpointId)
+                    .orElseThrow()
+                    .updateProgress(processed, completed);
+
+            em.flush();
+            em.clear();
+            return new CatalogImportResult(0, inserted, updated, skipped);
+        });
+    }
+
+    private Map<GenreType, Long> loadGenreIds() {
+        Map<GenreType, Long> genreIds = new EnumMap<>(GenreType.class);
+        genreRepository.findAll().forEach(genre -> genreIds.putIfAbsent(genre.getGenre(), genre.getGenreId()));
+        for (GenreType genreType : GenreType.values()) {
+            if (!genreIds.containsKey(genreType)) {
+                genreIds.put(genreType, genreRepository.save(Genre.builder().genre(genreType).build()).getGenreId());
+            }
+        }
+        return genreIds;
+    }
+
+    private CatalogImportCheckpoint findOrCreateCheckpoint(String sourceName, boolean restart) {
+        CatalogImportCheckpoint checkpoint = checkpointRepository.findBySourceName(sourceName)
+                .orElseGet(() -> checkpointRepository.save(CatalogImportCheckpoint.builder()
+                        .sourceName(sourceName)
+                        .processedRows(0L)
+                        .completed(false)
+                        .build()));
+        if (restart) {
+            checkpoint.updateProgress(0, false);
+        }
+        return checkpoint;
+    }
+
+    //카탈로그의 분류 문자열(예: "소설/시/희곡")을 GenreType 으로, 알 수 없으면 기타
+    private GenreType toGenreType(String category) {
+        GenreType genreType = GenreType.getGenreType(category == null ? null : category.trim());
+        return genreType == null ? GenreType.ETC : genreType;
+    }
+
+    private void logProgress(String sourceName, long processed, long processedThisRun, long startedAt) {
+        double seconds = Math.max(1e-3, (System.nanoTime() - startedAt) / 1_000_000_000.0);
+        log.info("[CatalogImport] {} processed {} rows ({} rows/s)",
+                sourceName, processed, Math.round(processedThisRun / seconds));
+    }
+
+    private static Long parseLong(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.replace("-", ""));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Integer parseInteger(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+}
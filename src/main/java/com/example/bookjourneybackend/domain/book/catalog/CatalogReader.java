@@ -0,0 +1,18 @@
+package com.example.bookjourneybackend.domain.book.catalog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+//파일 전체를 메모리에 올리지 않고 한 행씩 읽는다
+public interface CatalogReader extends Iterator<CatalogRow>, Closeable {
+
+    static CatalogReader open(Path path) throws IOException {
+        String fileName = path.getFileName().toString().toLowerCase();
+        if (fileName.endsWith(".json") || fileName.endsWith(".ndjson") || fileName.endsWith(".jsonl")) {
+            return new JsonCatalogReader(path);
+        }
+        return new CsvCatalogReader(path);
+    }
+}
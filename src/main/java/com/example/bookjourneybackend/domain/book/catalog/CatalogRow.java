@@ -0,0 +1,19 @@
+package com.example.bookjourneybackend.domain.book.catalog;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+//카탈로그 파일의 한 행 (CSV 헤더 / JSON 필드명 동일)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CatalogRow(
+        String isbn,
+        String title,
+        String author,
+        String publisher,
+        String publishedDate,
+        String pageCount,
+        String description,
+        String category,
+        String imageUrl,
+        String bestSeller
+) {
+}
@@ -0,0 +1,136 @@
+package com.example.bookjourneybackend.domain.book.catalog;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 헤더가 있는 RFC 4180 형식 CSV 를 한 레코드씩 읽는다.
+ * 따옴표 안의 쉼표, 줄바꿈, "" 이스케이프를 지원한다.
+ * 닫히지 않은 따옴표는 파일 끝까지 한 필드로 삼키지 않고 해당 레코드에서 실패시킨다.
+ */
+class CsvCatalogReader implements CatalogReader {
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private List<String> nextRecord;
+    //미리 읽다가 난 오류는 앞 레코드까지 돌려준 뒤 던진다
+    private IOException failure;
+
+    CsvCatalogReader(Path path) throws IOException {
+        this.reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IOException("empty catalog file: " + path);
+        }
+        for (int i = 0; i < header.size(); i++) {
+            //BOM 제거, 대소문자/구분자 차이 무시
+            String name = header.get(i).replace("\uFEFF", "").trim().replace("_", "").toLowerCase();
+            columns.put(name, i);
+        }
+        this.nextRecord = readRecord();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextRecord != null || failure != null;
+    }
+
+    @Override
+    public CatalogRow next() {
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+        if (nextRecord == null) {
+            throw new NoSuchElementException();
+        }
+        List<String> record = nextRecord;
+        try {
+            nextRecord = readRecord();
+        } catch (IOException e) {
+            nextRecord = null;
+            failure = e;
+        }
+        return new CatalogRow(
+                column(record, "isbn"),
+                column(record, "title"),
+                column(record, "author"),
+                column(record, "publisher"),
+                column(record, "publisheddate"),
+                column(record, "pagecount"),
+                column(record, "description"),
+                column(record, "category"),
+                column(record, "imageurl"),
+                column(record, "bestseller"));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String column(List<String> record, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.isEmpty()) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            //따옴표 안의 줄바꿈: 다음 줄까지 이어서 읽는다
+            line = reader.readLine();
+            if (line == null) {
+                //나머지 파일 전체가 필드에 들어 있으므로 앞부분만 남긴다
+                throw new IOException("unterminated quoted field: " + field.substring(0, Math.min(field.length(), 50)));
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.bookjourneybackend.domain.book.catalog;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+//최상위 배열 또는 줄 단위 JSON 객체를 Jackson 스트리밍으로 읽는다
+class JsonCatalogReader implements CatalogReader {
+
+    private static final ObjectReader ROW_READER = new ObjectMapper().readerFor(CatalogRow.class);
+
+    private final InputStream inputStream;
+    private final MappingIterator<CatalogRow> rows;
+
+    JsonCatalogReader(Path path) throws IOException {
+        this.inputStream = Files.newInputStream(path);
+        this.rows = ROW_READER.readValues(inputStream);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return rows.hasNext();
+    }
+
+    @Override
+    public CatalogRow next() {
+        return rows.next();
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+        inputStream.close();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.bookjourneybackend.domain.book.controller;
+
+import com.example.bookjourneybackend.domain.book.service.BookService;
+import com.example.bookjourneybackend.global.response.StreamingResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+//X-Admin-Token 헤더 검사는 AdminTokenInterceptor
+@RestController
+@RequestMapping("/admin/books")
+@RequiredArgsConstructor
+public class BookAdminController {
+
+    private final BookService bookService;
+
+    //Accept: application/x-ndjson 이면 한 줄에 도서 하나씩
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> getAllBooks(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return bookService.streamAllBooks(StreamingResponses.acceptsNdjson(accept));
+    }
+}
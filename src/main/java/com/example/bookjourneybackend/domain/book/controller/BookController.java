@@ -0,0 +1,53 @@
+package com.example.bookjourneybackend.domain.book.controller;
+
+import com.example.bookjourneybackend.domain.book.dto.response.GetBestSellerResponse;
+import com.example.bookjourneybackend.domain.book.dto.response.GetBookRecommendationResponse;
+import com.example.bookjourneybackend.domain.book.dto.response.GetBookSearchResponse;
+import com.example.bookjourneybackend.domain.book.service.BestSellerSnapshotService;
+import com.example.bookjourneybackend.domain.book.service.BookService;
+import com.example.bookjourneybackend.domain.book.service.RecommendationService;
+import com.example.bookjourneybackend.global.auth.CurrentUserId;
+import com.example.bookjourneybackend.global.response.BaseResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/books")
+@RequiredArgsConstructor
+public class BookController {
+
+    private final BookService bookService;
+    private final BestSellerSnapshotService bestSellerSnapshotService;
+    private final RecommendationService recommendationService;
+
+    @GetMapping("/search")
+    public BaseResponse<GetBookSearchResponse> searchBooks(
+            @RequestParam String keyword,
+            @CurrentUserId(required = false) Long userId,
+            @RequestParam(defaultValue = "20") int size) {
+        return BaseResponse.ok(bookService.searchBooks(keyword, userId, size));
+    }
+
+    @GetMapping("/best-sellers")
+    public BaseResponse<GetBestSellerResponse> getBestSellers(@RequestParam String genreType) {
+        return BaseResponse.ok(bestSellerSnapshotService.getBestSellers(genreType));
+    }
+
+    @GetMapping("/recommendations")
+    public BaseResponse<GetBookRecommendationResponse> recommendBooks(
+            @CurrentUserId Long userId,
+            @RequestParam(defaultValue = "20") int size) {
+        return BaseResponse.ok(recommendationService.recommendBooks(userId, size));
+    }
+
+    @GetMapping("/{bookId}/similar")
+    public BaseResponse<GetBookRecommendationResponse> getSimilarBooks(
+            @PathVariable Long bookId,
+            @RequestParam(defaultValue = "20") int size) {
+        return BaseResponse.ok(recommendationService.findSimilarBooks(bookId, size));
+    }
+}
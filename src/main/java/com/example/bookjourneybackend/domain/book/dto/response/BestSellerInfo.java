@@ -0,0 +1,12 @@
+package com.example.bookjourneybackend.domain.book.dto.response;
+
+import com.example.bookjourneybackend.global.entity.GenreType;
+
+public record BestSellerInfo(
+        GenreType genreType,
+        Long bookId,
+        String bookTitle,
+        String authorName,
+        String imageUrl
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.bookjourneybackend.domain.book.dto.response;
+
+import com.example.bookjourneybackend.domain.book.Book;
+
+public record BookInfo(
+        Long bookId,
+        String bookTitle,
+        String authorName,
+        String publisher
+) {
+    public static BookInfo from(Book book) {
+        return new BookInfo(book.getBookId(), book.getBookTitle(), book.getAuthorName(), book.getPublisher());
+    }
+}
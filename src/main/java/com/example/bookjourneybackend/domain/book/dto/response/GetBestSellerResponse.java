@@ -0,0 +1,11 @@
+package com.example.bookjourneybackend.domain.book.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record GetBestSellerResponse(
+        String genreType,
+        List<BestSellerInfo> bestSellers,
+        LocalDateTime updatedAt
+) {
+}
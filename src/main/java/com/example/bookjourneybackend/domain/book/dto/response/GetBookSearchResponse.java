@@ -0,0 +1,8 @@
+package com.example.bookjourneybackend.domain.book.dto.response;
+
+import java.util.List;
+
+public record GetBookSearchResponse(
+        List<BookInfo> books
+) {
+}
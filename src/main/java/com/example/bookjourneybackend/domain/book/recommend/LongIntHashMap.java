@@ -0,0 +1,101 @@
+package com.example.bookjourneybackend.domain.book.recommend;
+
+import java.util.Arrays;
+
+/**
+ * long -> int open addressing 맵 (linear probing).
+ * Long/Integer 박싱과 엔트리 객체 없이 배열 두 개만 쓰므로 수십만~수백만 id 를 담아도 힙 부담이 작다.
+ * 키는 DB id 라 음수가 없으므로 Long.MIN_VALUE 를 빈 칸 표시로 쓴다. 삭제는 지원하지 않는다.
+ */
+final class LongIntHashMap {
+
+    static final int MISSING = -1;
+
+    private static final long FREE = Long.MIN_VALUE;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int get(long key) {
+        int slot = slot(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    void put(long key, int value) {
+        int slot = slot(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * 없으면 value 로 넣고, 있으면 기존 값을 돌려준다 (id 를 0,1,2... 로 압축할 때 사용)
+     */
+    int putIfAbsent(long key, int value) {
+        int existing = get(key);
+        if (existing != MISSING) {
+            return existing;
+        }
+        put(key, value);
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        //murmur3 fmix64 로 섞어 연속된 id 가 한 구간에 몰리지 않게 한다
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, FREE);
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.bookjourneybackend.domain.book.recommend;
+
+import com.example.bookjourneybackend.global.entity.GenreType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+
+/**
+ * 찜(favorites)과 독서방 참여(rooms)를 유저-도서 간선으로 보고 item 기반 협업 필터링 + 장르 선호로 추천 목록을 미리 계산한다.
+ * 재계산은 스케줄러 스레드에서 하고, 끝나면 volatile 참조 하나만 교체하므로 요청 스레드는 메모리만 읽는다.
+ */
+@Slf4j
+@Component
+public class RecommendationEngine {
+
+    private static final int FAVORITE_WEIGHT = 2;
+    private static final int ROOM_WEIGHT = 1;
+    private static final int FETCH_SIZE = 10000;
+
+    private static final String FAVORITE_EDGES =
+            "SELECT user_id, book_id FROM favorites WHERE status = 'ACTIVE'";
+    private static final String ROOM_EDGES =
+            "SELECT user_id, book_id FROM rooms WHERE status = 'ACTIVE'";
+    private static final String BOOK_GENRES =
+            "SELECT b.book_id, g.genre FROM books b JOIN genres g ON g.genre_id = b.genre_id";
+    private static final String FAVORITE_GENRES =
+            "SELECT fg.user_id, g.genre FROM favorite_genres fg JOIN genres g ON g.genre_id = fg.genre_id " +
+                    "WHERE fg.status = 'ACTIVE'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int topK;
+    private final float genreWeight;
+    private final int maxItemsPerUser;
+
+    private volatile RecommendationModel model = RecommendationModel.EMPTY;
+
+    public RecommendationEngine(JdbcTemplate jdbcTemplate,
+                                @Value("${recommendation.top-k}") int topK,
+                                @Value("${recommendation.genre-weight}") float genreWeight,
+                                @Value("${recommendation.max-items-per-user}") int maxItemsPerUser) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.topK = topK;
+        this.genreWeight = genreWeight;
+        this.maxItemsPerUser = maxItemsPerUser;
+    }
+
+    public long[] recommendForUser(long userId, int size) {
+        return model.recommendForUser(userId, size);
+    }
+
+    public long[] similarBooks(long bookId, int size) {
+        return model.similarBooks(bookId, size);
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.rebuild-interval-millis}",
+            initialDelayString = "${recommendation.initial-delay-millis}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        RecommendationModel.Builder builder = new RecommendationModel.Builder();
+
+        stream(FAVORITE_EDGES, rs -> builder.addEdge(rs.getLong(1), rs.getLong(2), FAVORITE_WEIGHT));
+        stream(ROOM_EDGES, rs -> builder.addEdge(rs.getLong(1), rs.getLong(2), ROOM_WEIGHT));
+        stream(BOOK_GENRES, rs -> builder.setBookGenre(rs.getLong(1), GenreType.valueOf(rs.getString(2)).ordinal()));
+        stream(FAVORITE_GENRES, rs -> builder.addFavoriteGenre(rs.getLong(1), GenreType.valueOf(rs.getString(2)).ordinal()));
+
+        long loaded = System.nanoTime();
+        RecommendationModel rebuilt = builder.build(topK, genreWeight, maxItemsPerUser);
+        model = rebuilt;
+        log.info("[RecommendationEngine] model rebuilt: {} edges, {} users, {} books (load {} ms, build {} ms)",
+                rebuilt.edgeCount(), rebuilt.userCount(), rebuilt.bookCount(),
+                (loaded - started) / 1_000_000, (System.nanoTime() - loaded) / 1_000_000);
+    }
+
+    //MySQL 은 useCursorFetch 와 fetch size 가 있어야 결과를 한 번에 메모리에 올리지 않는다
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, handler);
+    }
+}
@@ -0,0 +1,455 @@
+package com.example.bookjourneybackend.domain.book.recommend;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * 추천 결과 스냅샷. 빌드가 끝나면 바뀌지 않으므로 요청 스레드는 잠금 없이 읽는다.
+ * 유저/도서 id 는 LongIntHashMap 으로 0..n-1 인덱스로 압축하고, 관계는 모두 CSR(offset + 평평한 int 배열)로 들고 있다.
+ */
+final class RecommendationModel {
+
+    static final RecommendationModel EMPTY = new Builder().build(1, 0f, 1);
+
+    private static final long[] NO_BOOKS = new long[0];
+    private static final int POPULAR_PER_GENRE = 100;
+    private static final byte NO_GENRE = -1;
+    //유저 선호 장르를 int 비트마스크로 들고 있으므로 장르는 32개까지
+    static final int MAX_GENRES = Integer.SIZE;
+
+    private final int topK;
+    private final long[] bookIds;
+    private final LongIntHashMap bookIndex;
+    private final int[] neighbors;
+    private final int[] neighborCounts;
+    private final LongIntHashMap userIndex;
+    private final int[] userRecs;
+    private final int[] userRecCounts;
+    private final int[][] popularByGenre;
+    private final int[] popular;
+    private final LongIntHashMap favoriteGenreMasks;
+    private final long edgeCount;
+
+    private RecommendationModel(int topK, long[] bookIds, LongIntHashMap bookIndex,
+                                int[] neighbors, int[] neighborCounts,
+                                LongIntHashMap userIndex, int[] userRecs, int[] userRecCounts,
+                                int[][] popularByGenre, int[] popular,
+                                LongIntHashMap favoriteGenreMasks, long edgeCount) {
+        this.topK = topK;
+        this.bookIds = bookIds;
+        this.bookIndex = bookIndex;
+        this.neighbors = neighbors;
+        this.neighborCounts = neighborCounts;
+        this.userIndex = userIndex;
+        this.userRecs = userRecs;
+        this.userRecCounts = userRecCounts;
+        this.popularByGenre = popularByGenre;
+        this.popular = popular;
+        this.favoriteGenreMasks = favoriteGenreMasks;
+        this.edgeCount = edgeCount;
+    }
+
+    long[] similarBooks(long bookId, int size) {
+        int book = bookIndex.get(bookId);
+        if (book == LongIntHashMap.MISSING) {
+            return NO_BOOKS;
+        }
+        return toBookIds(neighbors, book * topK, Math.min(size, neighborCounts[book]));
+    }
+
+    /**
+     * 미리 계산한 목록을 돌려주고, 상호작용이 없는 유저는 선호 장르(없으면 전체) 인기 도서로 채운다.
+     */
+    long[] recommendForUser(long userId, int size) {
+        int user = userIndex.get(userId);
+        if (user != LongIntHashMap.MISSING && userRecCounts[user] > 0) {
+            return toBookIds(userRecs, user * topK, Math.min(size, userRecCounts[user]));
+        }
+        int mask = favoriteGenreMasks.get(userId);
+        if (mask == LongIntHashMap.MISSING || mask == 0) {
+            return toBookIds(popular, 0, Math.min(size, popular.length));
+        }
+        return coldStart(mask, size);
+    }
+
+    int bookCount() {
+        return bookIds.length;
+    }
+
+    int userCount() {
+        return userRecCounts.length;
+    }
+
+    long edgeCount() {
+        return edgeCount;
+    }
+
+    //선호 장르 인기 목록을 번갈아 하나씩 뽑는다
+    private long[] coldStart(int mask, int size) {
+        long[] result = new long[size];
+        int count = 0;
+        for (int rank = 0; rank < POPULAR_PER_GENRE && count < size; rank++) {
+            boolean any = false;
+            for (int genre = 0; genre < popularByGenre.length && count < size; genre++) {
+                if ((mask & (1 << genre)) == 0 || rank >= popularByGenre[genre].length) {
+                    continue;
+                }
+                result[count++] = bookIds[popularByGenre[genre][rank]];
+                any = true;
+            }
+            if (!any) {
+                break;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private long[] toBookIds(int[] books, int from, int count) {
+        long[] result = new long[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = bookIds[books[from + i]];
+        }
+        return result;
+    }
+
+    /**
+     * 간선(유저-도서)을 받아 모델을 만든다. 단일 스레드에서 채운 뒤 build 를 한 번 호출한다.
+     */
+    static final class Builder {
+
+        private final LongIntHashMap userIndex = new LongIntHashMap(1 << 16);
+        private final LongIntHashMap bookIndex = new LongIntHashMap(1 << 16);
+        private final LongIntHashMap favoriteGenreMasks = new LongIntHashMap(1 << 12);
+        private long[] userIds = new long[1 << 16];
+        private long[] bookIds = new long[1 << 16];
+        private byte[] bookGenres = new byte[1 << 16];
+
+        {
+            Arrays.fill(bookGenres, NO_GENRE);
+        }
+
+        private int[] edgeUsers = new int[1 << 16];
+        private int[] edgeBooks = new int[1 << 16];
+        private byte[] edgeWeights = new byte[1 << 16];
+        private int edgeCount;
+
+        void addEdge(long userId, long bookId, int weight) {
+            int user = userIndex.putIfAbsent(userId, userIndex.size());
+            if (user == userIds.length) {
+                userIds = Arrays.copyOf(userIds, user << 1);
+            }
+            userIds[user] = userId;
+
+            int book = bookIndex.putIfAbsent(bookId, bookIndex.size());
+            if (book == bookIds.length) {
+                bookIds = Arrays.copyOf(bookIds, book << 1);
+                bookGenres = Arrays.copyOf(bookGenres, book << 1);
+                Arrays.fill(bookGenres, book, bookGenres.length, NO_GENRE);
+            }
+            bookIds[book] = bookId;
+
+            if (edgeCount == edgeUsers.length) {
+                int capacity = edgeCount << 1;
+                edgeUsers = Arrays.copyOf(edgeUsers, capacity);
+                edgeBooks = Arrays.copyOf(edgeBooks, capacity);
+                edgeWeights = Arrays.copyOf(edgeWeights, capacity);
+            }
+            edgeUsers[edgeCount] = user;
+            edgeBooks[edgeCount] = book;
+            edgeWeights[edgeCount] = (byte) weight;
+            edgeCount++;
+        }
+
+        //간선에 등장한 도서만 장르를 기록한다
+        void setBookGenre(long bookId, int genreOrdinal) {
+            int book = bookIndex.get(bookId);
+            if (book != LongIntHashMap.MISSING) {
+                bookGenres[book] = (byte) genreOrdinal;
+            }
+        }
+
+        void addFavoriteGenre(long userId, int genreOrdinal) {
+            int mask = favoriteGenreMasks.get(userId);
+            favoriteGenreMasks.put(userId, (mask == LongIntHashMap.MISSING ? 0 : mask) | (1 << genreOrdinal));
+        }
+
+        /**
+         * @param topK            도서/유저별로 남길 추천 개수
+         * @param genreWeight     최종 점수에서 장르 선호도 비중 (0~1)
+         * @param maxItemsPerUser 이보다 많은 도서를 가진 유저는 공동 출현 계산에서 제외 (쌍의 수가 제곱으로 늘어나므로)
+         */
+        RecommendationModel build(int topK, float genreWeight, int maxItemsPerUser) {
+            int userCount = userIndex.size();
+            int bookCount = bookIndex.size();
+            int genreCount = MAX_GENRES;
+
+            //유저 -> 도서 CSR (같은 유저-도서 간선은 가중치를 합친다)
+            int[] userOffsets = new int[userCount + 1];
+            for (int e = 0; e < edgeCount; e++) {
+                userOffsets[edgeUsers[e] + 1]++;
+            }
+            for (int u = 0; u < userCount; u++) {
+                userOffsets[u + 1] += userOffsets[u];
+            }
+            long[] packed = new long[edgeCount];
+            int[] cursor = Arrays.copyOf(userOffsets, userCount);
+            for (int e = 0; e < edgeCount; e++) {
+                packed[cursor[edgeUsers[e]]++] = ((long) edgeBooks[e] << 8) | (edgeWeights[e] & 0xFF);
+            }
+            int[] userItems = new int[edgeCount];
+            int[] userWeights = new int[edgeCount];
+            int[] compactOffsets = new int[userCount + 1];
+            int written = 0;
+            for (int u = 0; u < userCount; u++) {
+                compactOffsets[u] = written;
+                Arrays.sort(packed, userOffsets[u], userOffsets[u + 1]);
+                for (int p = userOffsets[u]; p < userOffsets[u + 1]; p++) {
+                    int book = (int) (packed[p] >>> 8);
+                    int weight = (int) (packed[p] & 0xFF);
+                    if (written > compactOffsets[u] && userItems[written - 1] == book) {
+                        userWeights[written - 1] += weight;
+                    } else {
+                        userItems[written] = book;
+                        userWeights[written] = weight;
+                        written++;
+                    }
+                }
+            }
+            compactOffsets[userCount] = written;
+            packed = null;
+
+            //도서 -> 유저 CSR (전치), 헤비 유저 제외
+            int[] bookOffsets = new int[bookCount + 1];
+            for (int u = 0; u < userCount; u++) {
+                if (compactOffsets[u + 1] - compactOffsets[u] > maxItemsPerUser) {
+                    continue;
+                }
+                for (int p = compactOffsets[u]; p < compactOffsets[u + 1]; p++) {
+                    bookOffsets[userItems[p] + 1]++;
+                }
+            }
+            for (int b = 0; b < bookCount; b++) {
+                bookOffsets[b + 1] += bookOffsets[b];
+            }
+            int[] bookUsers = new int[bookOffsets[bookCount]];
+            int[] bookUserWeights = new int[bookOffsets[bookCount]];
+            int[] bookCursor = Arrays.copyOf(bookOffsets, bookCount);
+            double[] norms = new double[bookCount];
+            for (int u = 0; u < userCount; u++) {
+                if (compactOffsets[u + 1] - compactOffsets[u] > maxItemsPerUser) {
+                    continue;
+                }
+                for (int p = compactOffsets[u]; p < compactOffsets[u + 1]; p++) {
+                    int book = userItems[p];
+                    int at = bookCursor[book]++;
+                    bookUsers[at] = u;
+                    bookUserWeights[at] = userWeights[p];
+                    norms[book] += (double) userWeights[p] * userWeights[p];
+                }
+            }
+
+            //도서별 공동 출현 -> 코사인 유사도 top-K. 한 행씩 계산하고 버리므로 쌍 전체를 메모리에 두지 않는다
+            int[] neighbors = new int[bookCount * topK];
+            float[] neighborScores = new float[bookCount * topK];
+            int[] neighborCounts = new int[bookCount];
+            forEachChunk(bookCount, (from, to) -> {
+                int[] acc = new int[bookCount];
+                int[] touched = new int[bookCount];
+                TopK top = new TopK(topK);
+                for (int i = from; i < to; i++) {
+                    int touchedCount = 0;
+                    for (int p = bookOffsets[i]; p < bookOffsets[i + 1]; p++) {
+                        int u = bookUsers[p];
+                        int wi = bookUserWeights[p];
+                        for (int q = compactOffsets[u]; q < compactOffsets[u + 1]; q++) {
+                            int j = userItems[q];
+                            if (j == i) {
+                                continue;
+                            }
+                            if (acc[j] == 0) {
+                                touched[touchedCount++] = j;
+                            }
+                            acc[j] += wi * userWeights[q];
+                        }
+                    }
+                    top.clear();
+                    for (int t = 0; t < touchedCount; t++) {
+                        int j = touched[t];
+                        top.offer(j, (float) (acc[j] / Math.sqrt(norms[i] * norms[j])));
+                        acc[j] = 0;
+                    }
+                    neighborCounts[i] = top.drainTo(neighbors, neighborScores, i * topK);
+                }
+            });
+
+            //인기(가중치 합) 순 전체/장르별 목록
+            long[] byPopularity = new long[bookCount];
+            for (int b = 0; b < bookCount; b++) {
+                byPopularity[b] = ((long) Float.floatToIntBits((float) norms[b]) << 32) | b;
+            }
+            Arrays.sort(byPopularity);
+            int[] popular = new int[Math.min(POPULAR_PER_GENRE, bookCount)];
+            int[][] popularByGenre = new int[genreCount][];
+            int[] genreFill = new int[genreCount];
+            for (int g = 0; g < genreCount; g++) {
+                popularByGenre[g] = new int[POPULAR_PER_GENRE];
+            }
+            for (int r = bookCount - 1, rank = 0; r >= 0; r--, rank++) {
+                int book = (int) byPopularity[r];
+                if (rank < popular.length) {
+                    popular[rank] = book;
+                }
+                int genre = bookGenres[book];
+                if (genre >= 0 && genreFill[genre] < POPULAR_PER_GENRE) {
+                    popularByGenre[genre][genreFill[genre]++] = book;
+                }
+            }
+            for (int g = 0; g < genreCount; g++) {
+                popularByGenre[g] = Arrays.copyOf(popularByGenre[g], genreFill[g]);
+            }
+            double maxNorm = bookCount == 0 ? 1 : Math.max(1, norms[(int) byPopularity[bookCount - 1]]);
+
+            //유저별: 가진 도서의 이웃 점수 합(CF)과 장르 선호도를 섞어 top-K
+            int[] userRecs = new int[userCount * topK];
+            int[] userRecCounts = new int[userCount];
+            forEachChunk(userCount, (from, to) -> {
+                float[] acc = new float[bookCount];
+                int[] touched = new int[bookCount];
+                int[] owned = new int[bookCount];
+                float[] affinity = new float[genreCount];
+                TopK top = new TopK(topK);
+                for (int u = from; u < to; u++) {
+                    int stamp = u + 1;
+                    int itemCount = compactOffsets[u + 1] - compactOffsets[u];
+                    Arrays.fill(affinity, 0f);
+                    for (int p = compactOffsets[u]; p < compactOffsets[u + 1]; p++) {
+                        owned[userItems[p]] = stamp;
+                        int genre = bookGenres[userItems[p]];
+                        if (genre >= 0) {
+                            affinity[genre] += 0.5f / itemCount;
+                        }
+                    }
+                    int mask = favoriteGenreMasks.get(userIds[u]);
+                    if (mask != LongIntHashMap.MISSING) {
+                        for (int g = 0; g < genreCount; g++) {
+                            if ((mask & (1 << g)) != 0) {
+                                affinity[g] += 0.5f;
+                            }
+                        }
+                    }
+
+                    int touchedCount = 0;
+                    float cfMax = 0f;
+                    for (int p = compactOffsets[u]; p < compactOffsets[u + 1]; p++) {
+                        int i = userItems[p];
+                        for (int n = 0; n < neighborCounts[i]; n++) {
+                            int j = neighbors[i * topK + n];
+                            if (owned[j] == stamp) {
+                                continue;
+                            }
+                            if (acc[j] == 0f) {
+                                touched[touchedCount++] = j;
+                            }
+                            acc[j] += userWeights[p] * neighborScores[i * topK + n];
+                            cfMax = Math.max(cfMax, acc[j]);
+                        }
+                    }
+                    //CF 후보가 부족할 때를 위해 가장 선호하는 장르의 인기 도서도 후보에 넣는다
+                    int favorite = argMax(affinity);
+                    if (favorite >= 0) {
+                        for (int book : popularByGenre[favorite]) {
+                            if (owned[book] != stamp && acc[book] == 0f) {
+                                acc[book] = Float.MIN_VALUE;
+                                touched[touchedCount++] = book;
+                            }
+                        }
+                    }
+
+                    top.clear();
+                    for (int t = 0; t < touchedCount; t++) {
+                        int j = touched[t];
+                        float cf = cfMax > 0f ? acc[j] / cfMax : 0f;
+                        float genre = bookGenres[j] >= 0 ? Math.min(1f, affinity[bookGenres[j]]) : 0f;
+                        float popularity = (float) (norms[j] / maxNorm);
+                        top.offer(j, (1f - genreWeight) * cf + genreWeight * genre + 0.01f * popularity);
+                        acc[j] = 0f;
+                    }
+                    userRecCounts[u] = top.drainTo(userRecs, null, u * topK);
+                }
+            });
+
+            return new RecommendationModel(topK, Arrays.copyOf(bookIds, bookCount), bookIndex,
+                    neighbors, neighborCounts, userIndex, userRecs, userRecCounts,
+                    popularByGenre, popular, favoriteGenreMasks, edgeCount);
+        }
+
+        private static int argMax(float[] values) {
+            int best = -1;
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] > 0f && (best < 0 || values[i] > values[best])) {
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        //[0, size) 를 코어 수만큼 나눠 병렬 처리. 청크마다 작업 배열을 따로 쓴다
+        private static void forEachChunk(int size, RangeTask task) {
+            int chunks = Math.max(1, Math.min(size, Runtime.getRuntime().availableProcessors() * 4));
+            int chunkSize = (size + chunks - 1) / chunks;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                int from = c * chunkSize;
+                int to = Math.min(size, from + chunkSize);
+                if (from < to) {
+                    task.run(from, to);
+                }
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface RangeTask {
+        void run(int from, int to);
+    }
+
+    /**
+     * 점수 상위 K 개 (K 가 작으므로 정렬 배열에 삽입)
+     */
+    private static final class TopK {
+
+        private final int[] ids;
+        private final float[] scores;
+        private int size;
+
+        private TopK(int k) {
+            this.ids = new int[k];
+            this.scores = new float[k];
+        }
+
+        private void clear() {
+            size = 0;
+        }
+
+        private void offer(int id, float score) {
+            if (size == ids.length && score <= scores[size - 1]) {
+                return;
+            }
+            int at = size == ids.length ? size - 1 : size++;
+            while (at > 0 && scores[at - 1] < score) {
+                ids[at] = ids[at - 1];
+                scores[at] = scores[at - 1];
+                at--;
+            }
+            ids[at] = id;
+            scores[at] = score;
+        }
+
+        private int drainTo(int[] targetIds, float[] targetScores, int offset) {
+            System.arraycopy(ids, 0, targetIds, offset, size);
+            if (targetScores != null) {
+                System.arraycopy(scores, 0, targetScores, offset, size);
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.bookjourneybackend.domain.book.repository;
+
+import com.example.bookjourneybackend.domain.book.BestSeller;
+import com.example.bookjourneybackend.domain.book.dto.response.BestSellerInfo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BestSellerRepository extends JpaRepository<BestSeller, Long> {
+
+    //장르, 책, 표지 이미지를 한 번의 조인으로 읽어 스냅샷을 만든다
+    @Query("select new com.example.bookjourneybackend.domain.book.dto.response.BestSellerInfo(" +
+            "g.genre, b.bookId, b.bookTitle, b.authorName, bi.imageUrl) " +
+            "from BestSeller bs join bs.genre g join bs.book b " +
+            "left join BookImage bi on bi.book = b " +
+            "order by g.genre asc, bs.bestSellerId asc")
+    List<BestSellerInfo> findAllBestSellerInfos();
+
+    @Query("select bs.book.bookId from BestSeller bs where bs.book.bookId in :bookIds")
+    List<Long> findBookIdsByBookIdIn(@Param("bookIds") Collection<Long> bookIds);
+}
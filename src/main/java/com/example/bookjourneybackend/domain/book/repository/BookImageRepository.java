@@ -0,0 +1,13 @@
+package com.example.bookjourneybackend.domain.book.repository;
+
+import com.example.bookjourneybackend.domain.book.Book;
+import com.example.bookjourneybackend.domain.book.BookImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BookImageRepository extends JpaRepository<BookImage, Long> {
+
+    List<BookImage> findAllByBookIn(Collection<Book> books);
+}
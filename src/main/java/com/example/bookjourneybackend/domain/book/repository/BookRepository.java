@@ -0,0 +1,27 @@
+package com.example.bookjourneybackend.domain.book.repository;
+
+import com.example.bookjourneybackend.domain.book.Book;
+import com.example.bookjourneybackend.domain.book.dto.response.BookInfo;
+import com.example.bookjourneybackend.domain.book.search.BookIndexRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BookRepository extends JpaRepository<Book, Long> {
+
+    @Query("select new com.example.bookjourneybackend.domain.book.search.BookIndexRow(" +
+            "b.bookId, b.bookTitle, b.authorName, b.publisher) " +
+            "from Book b where b.bookId > :lastBookId order by b.bookId asc")
+    List<BookIndexRow> findIndexRowsAfter(@Param("lastBookId") Long lastBookId, Pageable pageable);
+
+    @Query("select new com.example.bookjourneybackend.domain.book.dto.response.BookInfo(" +
+            "b.bookId, b.bookTitle, b.authorName, b.publisher) " +
+            "from Book b where b.bookId > :lastBookId order by b.bookId asc")
+    List<BookInfo> findBookInfosAfter(@Param("lastBookId") Long lastBookId, Pageable pageable);
+
+    List<Book> findAllByIsbnCodeIn(Collection<Long> isbnCodes);
+}
@@ -0,0 +1,22 @@
+package com.example.bookjourneybackend.domain.book.repository;
+
+import com.example.bookjourneybackend.domain.book.Genre;
+import com.example.bookjourneybackend.global.entity.GenreType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
+public interface GenreRepository extends JpaRepository<Genre, Long> {
+
+    //장르는 사실상 상수이므로 쿼리 결과까지 2차 캐시에 둔다
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "genre-query")
+    })
+    Optional<Genre> findByGenre(GenreType genre);
+}
@@ -0,0 +1,9 @@
+package com.example.bookjourneybackend.domain.book.search;
+
+public record BookIndexRow(
+        Long bookId,
+        String bookTitle,
+        String authorName,
+        String publisher
+) {
+}
@@ -0,0 +1,208 @@
+package com.example.bookjourneybackend.domain.book.search;
+
+import com.example.bookjourneybackend.domain.book.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * books 테이블의 제목/저자/출판사에 대한 메모리 역색인.
+ * LIKE '%...%' 대신 음절 n-gram posting 을 교집합/합집합으로 찾고 필드 가중치로 순위를 매긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndex {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    //필드 가중치: 제목 > 저자 > 출판사
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float AUTHOR_WEIGHT = 2f;
+    private static final float PUBLISHER_WEIGHT = 1f;
+
+    private final BookRepository bookRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+
+    //재색인 도중 들어온 변경분은 새 세그먼트로 교체한 뒤 다시 적용한다
+    private volatile Queue<BookIndexRow> pendingDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+        Segment rebuilt = new Segment();
+        long lastBookId = 0L;
+        int indexed = 0;
+        while (true) {
+            List<BookIndexRow> rows =
+                    bookRepository.findIndexRowsAfter(lastBookId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            rows.forEach(rebuilt::put);
+            indexed += rows.size();
+            lastBookId = rows.get(rows.size() - 1).bookId();
+        }
+
+        lock.writeLock().lock();
+        try {
+            segment = rebuilt;
+            Queue<BookIndexRow> pending = pendingDuringRebuild;
+            pendingDuringRebuild = null;
+            pending.forEach(this::applyLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[BookSearchIndex] rebuilt with {} books", indexed);
+    }
+
+    public void put(BookIndexRow row) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(row);
+            Queue<BookIndexRow> pending = pendingDuringRebuild;
+            if (pending != null) {
+                pending.add(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long bookId) {
+        put(new BookIndexRow(bookId, null, null, null));
+    }
+
+    //점수 내림차순 bookId 목록
+    public List<Long> search(String query, int limit) {
+        int[] grams = NgramTokenizer.queryGrams(query);
+        if (grams.length == 0) {
+            return List.of();
+        }
+
+        Map<Integer, Hit> hits = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (int gi = 0; gi < grams.length; gi++) {
+                collect(segment.titles.get(grams[gi]), gi, TITLE_WEIGHT, hits);
+                collect(segment.authors.get(grams[gi]), gi, AUTHOR_WEIGHT, hits);
+                collect(segment.publishers.get(grams[gi]), gi, PUBLISHER_WEIGHT, hits);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        //짧은 검색어는 모든 gram 이, 긴 검색어는 절반 이상이 맞아야 결과로 인정
+        int minMatched = grams.length <= 2 ? grams.length : (grams.length + 1) / 2;
+        return hits.entrySet().stream()
+                .filter(entry -> entry.getValue().matched >= minMatched)
+                .sorted(Comparator.<Map.Entry<Integer, Hit>>comparingDouble(entry -> -entry.getValue().score)
+                        .thenComparing(entry -> -entry.getValue().matched)
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limit)
+                .map(entry -> (long) entry.getKey())
+                .toList();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyLocked(BookIndexRow row) {
+        int doc = Math.toIntExact(row.bookId());
+        segment.remove(doc);
+        if (row.bookTitle() != null) {
+            segment.put(row);
+        }
+    }
+
+    private void collect(IntPostings postings, int gramIndex, float weight, Map<Integer, Hit> hits) {
+        if (postings == null) {
+            return;
+        }
+        for (int i = 0; i < postings.size(); i++) {
+            Hit hit = hits.computeIfAbsent(postings.get(i), doc -> new Hit());
+            hit.score += weight;
+            if (hit.lastGram != gramIndex) {
+                hit.lastGram = gramIndex;
+                hit.matched++;
+            }
+        }
+    }
+
+    private static final class Hit {
+        private float score;
+        private int matched;
+        private int lastGram = -1;
+    }
+
+    private static final class Segment {
+
+        private final Map<Integer, IntPostings> titles = new HashMap<>();
+        private final Map<Integer, IntPostings> authors = new HashMap<>();
+        private final Map<Integer, IntPostings> publishers = new HashMap<>();
+
+        //삭제/갱신 시 이전 gram 을 지우기 위해 문서별 gram 을 보관
+        private final Map<Integer, int[][]> docs = new HashMap<>();
+
+        private void put(BookIndexRow row) {
+            int doc = Math.toIntExact(row.bookId());
+            int[] titleGrams = NgramTokenizer.indexGrams(row.bookTitle());
+            int[] authorGrams = NgramTokenizer.indexGrams(row.authorName());
+            int[] publisherGrams = NgramTokenizer.indexGrams(row.publisher());
+            add(titles, titleGrams, doc);
+            add(authors, authorGrams, doc);
+            add(publishers, publisherGrams, doc);
+            docs.put(doc, new int[][]{titleGrams, authorGrams, publisherGrams});
+        }
+
+        private void remove(int doc) {
+            int[][] grams = docs.remove(doc);
+            if (grams == null) {
+                return;
+            }
+            remove(titles, grams[0], doc);
+            remove(authors, grams[1], doc);
+            remove(publishers, grams[2], doc);
+        }
+
+        private static void add(Map<Integer, IntPostings> field, int[] grams, int doc) {
+            for (int gram : grams) {
+                field.computeIfAbsent(gram, key -> new IntPostings()).add(doc);
+            }
+        }
+
+        private static void remove(Map<Integer, IntPostings> field, int[] grams, int doc) {
+            for (int gram : grams) {
+                IntPostings postings = field.get(gram);
+                if (postings == null) {
+                    continue;
+                }
+                postings.remove(doc);
+                if (postings.isEmpty()) {
+                    field.remove(gram);
+                }
+            }
+        }
+    }
+}
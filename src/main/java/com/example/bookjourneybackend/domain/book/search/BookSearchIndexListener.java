@@ -0,0 +1,48 @@
+package com.example.bookjourneybackend.domain.book.search;
+
+import com.example.bookjourneybackend.domain.book.Book;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Book 변경을 커밋 이후 BookSearchIndex 에 반영한다.
+ * EntityManagerFactory 생성 중에 만들어지는 리스너이므로 인덱스는 ObjectProvider 로 지연 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookSearchIndexListener {
+
+    private final ObjectProvider<BookSearchIndex> bookSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Book book) {
+        BookIndexRow row = new BookIndexRow(book.getBookId(), book.getBookTitle(), book.getAuthorName(), book.getPublisher());
+        afterCommit(() -> bookSearchIndex.getObject().put(row));
+    }
+
+    @PostRemove
+    public void onRemove(Book book) {
+        Long bookId = book.getBookId();
+        afterCommit(() -> bookSearchIndex.getObject().remove(bookId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.bookjourneybackend.domain.book.search;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 int 배열로 관리하는 posting list.
+ * 재색인은 bookId 오름차순으로 들어오므로 대부분 배열 끝에 추가된다.
+ */
+final class IntPostings {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[] docs = EMPTY;
+    private int size;
+
+    void add(int doc) {
+        if (size > 0 && docs[size - 1] < doc) {
+            ensureCapacity();
+            docs[size++] = doc;
+            return;
+        }
+        int idx = Arrays.binarySearch(docs, 0, size, doc);
+        if (idx >= 0) {
+            return;
+        }
+        int insertAt = -idx - 1;
+        ensureCapacity();
+        System.arraycopy(docs, insertAt, docs, insertAt + 1, size - insertAt);
+        docs[insertAt] = doc;
+        size++;
+    }
+
+    void remove(int doc) {
+        int idx = Arrays.binarySearch(docs, 0, size, doc);
+        if (idx < 0) {
+            return;
+        }
+        System.arraycopy(docs, idx + 1, docs, idx, size - idx - 1);
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int i) {
+        return docs[i];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void ensureCapacity() {
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, Math.max(4, size + (size >> 1)));
+        }
+    }
+}
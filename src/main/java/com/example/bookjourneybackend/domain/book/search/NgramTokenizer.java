@@ -0,0 +1,81 @@
+package com.example.bookjourneybackend.domain.book.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 문자 단위 unigram + bigram 토크나이저.
+ * 한글은 음절 단위로 잘라야 "책산" "산책" 처럼 부분 검색이 되므로 형태소 분석 없이 음절 bigram 을 쓴다.
+ * gram 은 (앞 글자 << 16 | 뒷 글자) 형태의 int 로 인코딩하고, unigram 은 뒷 글자 자리가 0 이다.
+ */
+final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    //색인용: 모든 unigram 과 bigram (중복 제거, 정렬)
+    static int[] indexGrams(String text) {
+        String normalized = normalize(text);
+        int[] grams = new int[normalized.length() * 2];
+        int n = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            grams[n++] = unigram(normalized.charAt(i));
+            if (i + 1 < normalized.length()) {
+                grams[n++] = bigram(normalized.charAt(i), normalized.charAt(i + 1));
+            }
+        }
+        return distinct(grams, n);
+    }
+
+    //검색용: 한 글자면 unigram, 그 이상이면 bigram 만 사용
+    static int[] queryGrams(String query) {
+        String normalized = normalize(query);
+        if (normalized.length() == 1) {
+            return new int[]{unigram(normalized.charAt(0))};
+        }
+        int[] grams = new int[Math.max(0, normalized.length() - 1)];
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            grams[i] = bigram(normalized.charAt(i), normalized.charAt(i + 1));
+        }
+        return distinct(grams, grams.length);
+    }
+
+    private static int unigram(char c) {
+        return c << 16;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static int[] distinct(int[] grams, int length) {
+        if (length == 0) {
+            return new int[0];
+        }
+        int[] sorted = Arrays.copyOf(grams, length);
+        Arrays.sort(sorted);
+        int n = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[n - 1]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, n);
+    }
+}
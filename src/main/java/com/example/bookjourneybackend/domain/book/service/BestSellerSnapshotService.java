@@ -0,0 +1,86 @@
+package com.example.bookjourneybackend.domain.book.service;
+
+import com.example.bookjourneybackend.domain.book.dto.response.BestSellerInfo;
+import com.example.bookjourneybackend.domain.book.dto.response.GetBestSellerResponse;
+import com.example.bookjourneybackend.domain.book.repository.BestSellerRepository;
+import com.example.bookjourneybackend.global.entity.GenreType;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.INVALID_GENRE_TYPE;
+
+/**
+ * 장르별 베스트셀러 목록을 주기적으로 불변 스냅샷으로 만들어 두고 통째로 교체한다.
+ * 요청 스레드는 volatile 참조 하나만 읽으므로 DB 에 접근하지 않는다.
+ */
+@Slf4j
+@Service
+public class BestSellerSnapshotService {
+
+    private final BestSellerRepository bestSellerRepository;
+
+    private volatile Snapshot snapshot = Snapshot.empty();
+
+    public BestSellerSnapshotService(BestSellerRepository bestSellerRepository, MeterRegistry meterRegistry) {
+        this.bestSellerRepository = bestSellerRepository;
+        Gauge.builder("bestseller.snapshot.age", this, service -> service.snapshotAge().toMillis() / 1000.0)
+                .description("seconds since the best seller snapshot was built")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public GetBestSellerResponse getBestSellers(String genreType) {
+        GenreType genre = GenreType.getGenreType(genreType);
+        if (genre == null) {
+            throw new GlobalException(INVALID_GENRE_TYPE);
+        }
+        Snapshot current = snapshot;
+        return new GetBestSellerResponse(
+                genre.getGenreType(),
+                current.bestSellers().getOrDefault(genre, List.of()),
+                LocalDateTime.ofInstant(current.builtAt(), ZoneId.systemDefault()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${best-seller.refresh-interval-millis}",
+            initialDelayString = "${best-seller.refresh-interval-millis}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        Map<GenreType, List<BestSellerInfo>> grouped = new EnumMap<>(GenreType.class);
+        for (BestSellerInfo info : bestSellerRepository.findAllBestSellerInfos()) {
+            grouped.computeIfAbsent(info.genreType(), genre -> new ArrayList<>()).add(info);
+        }
+        grouped.replaceAll((genre, infos) -> List.copyOf(infos));
+
+        snapshot = new Snapshot(Collections.unmodifiableMap(grouped), Instant.now());
+        log.info("[BestSellerSnapshotService] snapshot rebuilt for {} genres", grouped.size());
+    }
+
+    Duration snapshotAge() {
+        return Duration.between(snapshot.builtAt(), Instant.now());
+    }
+
+    private record Snapshot(Map<GenreType, List<BestSellerInfo>> bestSellers, Instant builtAt) {
+
+        private static Snapshot empty() {
+            return new Snapshot(Map.of(), Instant.EPOCH);
+        }
+    }
+}
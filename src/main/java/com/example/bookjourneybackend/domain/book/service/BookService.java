@@ -0,0 +1,75 @@
+package com.example.bookjourneybackend.domain.book.service;
+
+import com.example.bookjourneybackend.domain.book.Book;
+import com.example.bookjourneybackend.domain.book.dto.response.BookInfo;
+import com.example.bookjourneybackend.domain.book.dto.response.GetBookSearchResponse;
+import com.example.bookjourneybackend.domain.book.repository.BookRepository;
+import com.example.bookjourneybackend.domain.book.search.BookSearchIndex;
+import com.example.bookjourneybackend.domain.recentSearch.service.RecentSearchService;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import com.example.bookjourneybackend.global.response.StreamingResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.EMPTY_SEARCH_KEYWORD;
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.INVALID_PAGE_SIZE;
+
+@Service
+@RequiredArgsConstructor
+public class BookService {
+
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int EXPORT_PAGE_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final RecentSearchService recentSearchService;
+    private final StreamingResponses streamingResponses;
+
+    @Transactional(readOnly = true)
+    public GetBookSearchResponse searchBooks(String keyword, Long userId, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new GlobalException(EMPTY_SEARCH_KEYWORD);
+        }
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new GlobalException(INVALID_PAGE_SIZE);
+        }
+
+        if (userId != null) {
+            recentSearchService.addRecentSearch(userId, keyword);
+        }
+
+        List<Long> rankedIds = bookSearchIndex.search(keyword, size);
+        Map<Long, Book> books = bookRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+
+        //인덱스가 매긴 순위를 유지
+        List<BookInfo> bookInfos = rankedIds.stream()
+                .map(books::get)
+                .filter(Objects::nonNull)
+                .map(BookInfo::from)
+                .toList();
+        return new GetBookSearchResponse(bookInfos);
+    }
+
+    /**
+     * 관리자용 도서 전체 목록. bookId keyset 으로 페이지를 이어 읽으며 바로 전송한다.
+     */
+    public ResponseEntity<StreamingResponseBody> streamAllBooks(boolean ndjson) {
+        PageRequest page = PageRequest.of(0, EXPORT_PAGE_SIZE);
+        return streamingResponses.ok(
+                (Long lastBookId) -> bookRepository.findBookInfosAfter(lastBookId == null ? 0L : lastBookId, page),
+                BookInfo::bookId,
+                ndjson);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.bookjourneybackend.domain.book.service;
+
+import com.example.bookjourneybackend.domain.book.Book;
+import com.example.bookjourneybackend.domain.book.dto.response.BookInfo;
+import com.example.bookjourneybackend.domain.book.dto.response.GetBookRecommendationResponse;
+import com.example.bookjourneybackend.domain.book.recommend.RecommendationEngine;
+import com.example.bookjourneybackend.domain.book.repository.BookRepository;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.INVALID_PAGE_SIZE;
+
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    private static final int MAX_RECOMMENDATION_SIZE = 50;
+
+    private final RecommendationEngine recommendationEngine;
+    private final BookRepository bookRepository;
+
+    @Transactional(readOnly = true)
+    public GetBookRecommendationResponse recommendBooks(Long userId, int size) {
+        validateSize(size);
+        return new GetBookRecommendationResponse(toBookInfos(recommendationEngine.recommendForUser(userId, size)));
+    }
+
+    @Transactional(readOnly = true)
+    public GetBookRecommendationResponse findSimilarBooks(Long bookId, int size) {
+        validateSize(size);
+        return new GetBookRecommendationResponse(toBookInfos(recommendationEngine.similarBooks(bookId, size)));
+    }
+
+    private void validateSize(int size) {
+        if (size < 1 || size > MAX_RECOMMENDATION_SIZE) {
+            throw new GlobalException(INVALID_PAGE_SIZE);
+        }
+    }
+
+    //모델이 매긴 순위를 유지 (재계산 사이에 삭제된 도서는 빠진다)
+    private List<BookInfo> toBookInfos(long[] rankedIds) {
+        List<Long> ids = Arrays.stream(rankedIds).boxed().toList();
+        Map<Long, Book> books = bookRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Book::getBookId, Function.identity()));
+        return ids.stream()
+                .map(books::get)
+                .filter(Objects::nonNull)
+                .map(BookInfo::from)
+                .toList();
+    }
+}
@@ -6,9 +6,13 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
-@Table(name = "recent_search")
+@Table(name = "recent_search", indexes = {
+        @Index(name = "idx_recent_search_status_user_modified", columnList = "status, user_id, modified_at")
+})
+@SQLRestriction(BaseEntity.ACTIVE_ONLY)
 @Getter
 @NoArgsConstructor
 public class RecentSearch extends BaseEntity {
@@ -18,7 +22,7 @@ public class RecentSearch extends BaseEntity {
     @Column(name = "recent_search_id")
     private Long recentSearchId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -0,0 +1,27 @@
+package com.example.bookjourneybackend.domain.recentSearch.controller;
+
+import com.example.bookjourneybackend.domain.recentSearch.dto.response.GetRecentSearchResponse;
+import com.example.bookjourneybackend.domain.recentSearch.service.RecentSearchService;
+import com.example.bookjourneybackend.global.auth.CurrentUserId;
+import com.example.bookjourneybackend.global.response.BaseResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/recent-searches")
+@RequiredArgsConstructor
+public class RecentSearchController {
+
+    private final RecentSearchService recentSearchService;
+
+    @GetMapping
+    public BaseResponse<GetRecentSearchResponse> getRecentSearches(@CurrentUserId Long userId) {
+        return BaseResponse.ok(recentSearchService.getRecentSearches(userId));
+    }
+
+    @DeleteMapping
+    public BaseResponse<Void> deleteRecentSearch(@CurrentUserId Long userId, @RequestParam String keyword) {
+        recentSearchService.deleteRecentSearch(userId, keyword);
+        return BaseResponse.ok(null);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.bookjourneybackend.domain.recentSearch.dto.response;
+
+import java.util.List;
+
+public record GetRecentSearchResponse(
+        List<String> recentSearches
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.bookjourneybackend.domain.recentSearch.repository;
+
+import com.example.bookjourneybackend.domain.recentSearch.RecentSearch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface RecentSearchRepository extends JpaRepository<RecentSearch, Long> {
+
+    //버퍼에 없는 유저를 처음 조회할 때만 사용 (users 조인 없이 최신순)
+    @Query("select rs from RecentSearch rs where rs.user.userId = :userId order by rs.modifiedAt desc")
+    List<RecentSearch> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+}
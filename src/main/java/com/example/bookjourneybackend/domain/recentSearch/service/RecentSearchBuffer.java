@@ -0,0 +1,231 @@
+package com.example.bookjourneybackend.domain.recentSearch.service;
+
+import com.example.bookjourneybackend.domain.recentSearch.repository.RecentSearchRepository;
+import com.example.bookjourneybackend.domain.user.repository.UserRepository;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.CANNOT_FOUND_USER;
+
+/**
+ * 유저별 최근 검색어를 메모리에 최대 maxSize 개까지 보관한다.
+ * 같은 검색어는 맨 앞으로 이동시키고, 변경된 유저만 모아서 주기적으로 recent_search 에 다시 쓴다.
+ * 유저당 행 수가 maxSize 를 넘지 않으므로 테이블 크기도 함께 제한된다.
+ * 버퍼에 처음 올릴 때 유저가 있는지 확인하고, 반영은 유저마다 별도 트랜잭션으로 해서 한 유저의 실패가 다른 유저를 막지 않게 한다.
+ */
+@Slf4j
+@Component
+public class RecentSearchBuffer {
+
+    private static final String DELETE_BY_USER = "delete from recent_search where status = 'ACTIVE' and user_id = ?";
+    private static final String INSERT_RECENT_SEARCH =
+            "insert into recent_search (user_id, recent_search, created_at, modified_at, status) " +
+                    "values (?, ?, ?, ?, 'ACTIVE')";
+    private static final String DELETE_EXPIRED = "delete from recent_search where modified_at < ?";
+
+    private final RecentSearchRepository recentSearchRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxSize;
+    private final long retentionDays;
+    private final long idleEvictMinutes;
+
+    private final ConcurrentHashMap<Long, UserRecentSearches> buffers = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+
+    public RecentSearchBuffer(RecentSearchRepository recentSearchRepository,
+                              UserRepository userRepository,
+                              JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${recent-search.max-size}") int maxSize,
+                              @Value("${recent-search.retention-days}") long retentionDays,
+                              @Value("${recent-search.idle-evict-minutes}") long idleEvictMinutes) {
+        this.recentSearchRepository = recentSearchRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.maxSize = maxSize;
+        this.retentionDays = retentionDays;
+        this.idleEvictMinutes = idleEvictMinutes;
+    }
+
+    public void add(Long userId, String keyword) {
+        LocalDateTime now = LocalDateTime.now();
+        while (true) {
+            UserRecentSearches searches = getOrLoad(userId);
+            synchronized (searches) {
+                if (searches.evicted) {
+                    continue;
+                }
+                searches.moveToFront(new Entry(keyword, now), maxSize);
+                searches.touch();
+                dirtyUserIds.add(userId);
+                return;
+            }
+        }
+    }
+
+    public void remove(Long userId, String keyword) {
+        while (true) {
+            UserRecentSearches searches = getOrLoad(userId);
+            synchronized (searches) {
+                if (searches.evicted) {
+                    continue;
+                }
+                if (searches.remove(keyword)) {
+                    dirtyUserIds.add(userId);
+                }
+                searches.touch();
+                return;
+            }
+        }
+    }
+
+    //최신순
+    public List<Entry> get(Long userId) {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        UserRecentSearches searches = getOrLoad(userId);
+        synchronized (searches) {
+            searches.touch();
+            return searches.entries.stream()
+                    .filter(entry -> entry.searchedAt().isAfter(threshold))
+                    .toList();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${recent-search.flush-interval-millis}")
+    public void flush() {
+        if (dirtyUserIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> failedUserIds = new ArrayList<>();
+        for (Iterator<Long> it = dirtyUserIds.iterator(); it.hasNext(); ) {
+            Long userId = it.next();
+            it.remove();
+            UserRecentSearches searches = buffers.get(userId);
+            if (searches == null) {
+                continue;
+            }
+            List<Object[]> rows = new ArrayList<>();
+            synchronized (searches) {
+                for (Entry entry : searches.entries) {
+                    Timestamp searchedAt = Timestamp.valueOf(entry.searchedAt());
+                    rows.add(new Object[]{userId, entry.keyword(), searchedAt, searchedAt});
+                }
+            }
+
+            try {
+                //유저의 행을 지우고 버퍼 내용으로 다시 채운다
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.update(DELETE_BY_USER, userId);
+                    jdbcTemplate.batchUpdate(INSERT_RECENT_SEARCH, rows);
+                });
+            } catch (DataIntegrityViolationException e) {
+                //버퍼에 올린 뒤 유저가 삭제된 경우 등. 다시 시도해도 실패하므로 버린다
+                log.warn("[RecentSearchBuffer] dropping recent searches of user {}: {}", userId, e.getMessage());
+                synchronized (searches) {
+                    searches.evicted = true;
+                    buffers.remove(userId, searches);
+                }
+            } catch (DataAccessException e) {
+                log.warn("[RecentSearchBuffer] flush failed for user {}, will retry", userId, e);
+                failedUserIds.add(userId);
+            }
+        }
+        dirtyUserIds.addAll(failedUserIds);
+    }
+
+    //오래 조회되지 않았고 반영할 변경이 없는 유저는 메모리에서 내린다
+    @Scheduled(fixedDelayString = "${recent-search.flush-interval-millis}", initialDelayString = "${recent-search.flush-interval-millis}")
+    public void evictIdle() {
+        long idleBefore = System.currentTimeMillis() - idleEvictMinutes * 60_000;
+        for (Map.Entry<Long, UserRecentSearches> mapEntry : buffers.entrySet()) {
+            UserRecentSearches searches = mapEntry.getValue();
+            synchronized (searches) {
+                if (searches.lastAccessMillis < idleBefore && !dirtyUserIds.contains(mapEntry.getKey())) {
+                    searches.evicted = true;
+                    buffers.remove(mapEntry.getKey(), searches);
+                }
+            }
+        }
+    }
+
+    //보관 기간이 지난 검색어 정리
+    @Scheduled(cron = "${recent-search.prune-cron}")
+    public void pruneExpired() {
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED,
+                Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays)));
+        log.info("[RecentSearchBuffer] pruned {} expired recent searches", deleted);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private UserRecentSearches getOrLoad(Long userId) {
+        UserRecentSearches searches = buffers.get(userId);
+        if (searches != null) {
+            return searches;
+        }
+        //없는 유저의 검색어가 버퍼에 쌓여 반영 때 FK 위반이 나지 않도록 처음 올릴 때만 확인한다
+        if (!userRepository.existsById(userId)) {
+            throw new GlobalException(CANNOT_FOUND_USER);
+        }
+        //DB 조회는 맵 잠금 밖에서 하고, 동시에 적재된 경우 먼저 들어간 쪽을 사용
+        UserRecentSearches loaded = new UserRecentSearches();
+        recentSearchRepository.findLatestByUserId(userId, PageRequest.of(0, maxSize))
+                .forEach(recentSearch -> loaded.entries.addLast(
+                        new Entry(recentSearch.getRecentSearch(), recentSearch.getModifiedAt())));
+        UserRecentSearches existing = buffers.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    public record Entry(String keyword, LocalDateTime searchedAt) {
+    }
+
+    private static final class UserRecentSearches {
+
+        //ArrayDeque 를 고정 크기 링 버퍼로 사용 (앞쪽이 최신)
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        private long lastAccessMillis = System.currentTimeMillis();
+        private boolean evicted;
+
+        private void moveToFront(Entry entry, int maxSize) {
+            remove(entry.keyword());
+            entries.addFirst(entry);
+            while (entries.size() > maxSize) {
+                entries.removeLast();
+            }
+        }
+
+        private boolean remove(String keyword) {
+            return entries.removeIf(entry -> entry.keyword().equals(keyword));
+        }
+
+        private void touch() {
+            lastAccessMillis = System.currentTimeMillis();
+        }
+    }
+}
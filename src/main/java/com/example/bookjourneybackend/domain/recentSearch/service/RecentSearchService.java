@@ -0,0 +1,35 @@
+package com.example.bookjourneybackend.domain.recentSearch.service;
+
+import com.example.bookjourneybackend.domain.recentSearch.dto.response.GetRecentSearchResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class RecentSearchService {
+
+    private static final int MAX_KEYWORD_LENGTH = 255;
+
+    private final RecentSearchBuffer recentSearchBuffer;
+
+    public void addRecentSearch(Long userId, String keyword) {
+        String trimmed = keyword.trim();
+        if (trimmed.isEmpty()) {
+            return;
+        }
+        if (trimmed.length() > MAX_KEYWORD_LENGTH) {
+            trimmed = trimmed.substring(0, MAX_KEYWORD_LENGTH);
+        }
+        recentSearchBuffer.add(userId, trimmed);
+    }
+
+    public GetRecentSearchResponse getRecentSearches(Long userId) {
+        return new GetRecentSearchResponse(recentSearchBuffer.get(userId).stream()
+                .map(RecentSearchBuffer.Entry::keyword)
+                .toList());
+    }
+
+    public void deleteRecentSearch(Long userId, String keyword) {
+        recentSearchBuffer.remove(userId, keyword.trim());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.bookjourneybackend.domain.room;
 
 import com.example.bookjourneybackend.domain.book.Book;
+import com.example.bookjourneybackend.domain.room.readTogether.RoomTogether;
 import com.example.bookjourneybackend.domain.user.User;
 import com.example.bookjourneybackend.global.entity.BaseEntity;
 import com.example.bookjourneybackend.global.entity.RoomType;
@@ -12,7 +13,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "rooms")
+@Table(name = "rooms", indexes = {
+        //도서별 공개 방 탐색 시 book_id -> room_id -> read_together.room_id 로 조인
+        @Index(name = "idx_rooms_book_room", columnList = "book_id, room_id")
+}, uniqueConstraints = {
+        //같은 같이읽기 방에 중복 참여 방지 (혼자읽기 방은 read_together_id 가 null 이라 제외)
+        @UniqueConstraint(name = "uk_rooms_read_together_user", columnNames = {"read_together_id", "user_id"})
+})
 @NoArgsConstructor
 @Getter
 public class Room extends BaseEntity {
@@ -40,14 +47,23 @@ public class Room extends BaseEntity {
     @JoinColumn(name = "book_id", nullable = false)
     private Book book;
 
+    //같이읽기 방의 멤버인 경우에만 존재
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "read_together_id")
+    private RoomTogether roomTogether;
 
     @Builder
-    public Room(Long roomId, RoomType roomType, UserRole userRole, Double userPercentage, User user, Book book) {
+    public Room(Long roomId, RoomType roomType, UserRole userRole, Double userPercentage, User user, Book book, RoomTogether roomTogether) {
         this.roomId = roomId;
         this.roomType = roomType;
         this.userRole = userRole;
         this.userPercentage = userPercentage;
         this.user = user;
         this.book = book;
+        this.roomTogether = roomTogether;
+    }
+
+    public void updateUserPercentage(Double userPercentage) {
+        this.userPercentage = userPercentage;
     }
 }
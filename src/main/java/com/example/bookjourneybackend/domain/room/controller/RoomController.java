@@ -0,0 +1,24 @@
+package com.example.bookjourneybackend.domain.room.controller;
+
+import com.example.bookjourneybackend.domain.room.dto.request.PatchUserPercentageRequest;
+import com.example.bookjourneybackend.domain.room.service.RoomService;
+import com.example.bookjourneybackend.global.auth.CurrentUserId;
+import com.example.bookjourneybackend.global.response.BaseResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/rooms")
+@RequiredArgsConstructor
+public class RoomController {
+
+    private final RoomService roomService;
+
+    @PatchMapping("/{roomId}/progress")
+    public BaseResponse<Void> updateUserPercentage(@PathVariable Long roomId,
+                                                   @CurrentUserId Long userId,
+                                                   @RequestBody PatchUserPercentageRequest request) {
+        roomService.updateUserPercentage(roomId, userId, request.userPercentage());
+        return BaseResponse.ok(null);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.bookjourneybackend.domain.room.dto.request;
+
+public record PatchUserPercentageRequest(
+        Double userPercentage
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.bookjourneybackend.domain.room.event;
+
+/**
+ * 방 피드(SSE)로 내보낼 변경. 커밋 이후 RoomFeedService 가 구독자에게 전달한다.
+ * channel 은 ReadTogetherRooms.feedChannelOf 로 정한다.
+ */
+public record RoomFeedEvent(
+        String channel,
+        RoomFeedEventType type,
+        Object data
+) {
+}
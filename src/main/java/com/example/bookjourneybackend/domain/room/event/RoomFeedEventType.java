@@ -0,0 +1,19 @@
+package com.example.bookjourneybackend.domain.room.event;
+
+import lombok.Getter;
+
+@Getter
+public enum RoomFeedEventType {
+
+    RECORD_CREATED("record-created"),
+    COMMENT_CREATED("comment-created"),
+    RECORD_LIKE_CHANGED("record-like-changed"),
+    COMMENT_LIKE_CHANGED("comment-like-changed");
+
+    //SSE event 이름
+    private String eventName;
+
+    RoomFeedEventType(String eventName) {
+        this.eventName = eventName;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.bookjourneybackend.domain.room.event;
+
+/**
+ * 같이읽기 방 진행률 변화량.
+ * 진행률 수정: (new - old, 0), 참여: (userPercentage, +1), 나가기: (-userPercentage, -1)
+ */
+public record RoomProgressChangedEvent(
+        Long readTogetherId,
+        double percentageDelta,
+        int memberDelta
+) {
+}
@@ -0,0 +1,9 @@
+package com.example.bookjourneybackend.domain.room.event;
+
+/**
+ * 같이읽기 방의 모집 가능 여부나 남은 자리가 바뀜 (참여, 나가기, 모집 마감)
+ */
+public record RoomRecruitmentChangedEvent(
+        Long readTogetherId
+) {
+}
@@ -1,19 +1,31 @@
 package com.example.bookjourneybackend.domain.room.readTogether;
 
 import com.example.bookjourneybackend.global.entity.BaseEntity;
+import com.example.bookjourneybackend.global.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_status_record_id", columnList = "status, record_id, comment_id")
+})
+@NamedEntityGraph(name = Comment.WITH_RECORD, attributeNodes = @NamedAttributeNode("record"))
+@SQLRestriction(BaseEntity.ACTIVE_ONLY)
 @NoArgsConstructor
 @Getter
 public class Comment extends BaseEntity {
 
+    public static final String WITH_RECORD = "Comment.withRecord";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comments_id_generator")
+    @TableGenerator(name = "comments_id_generator", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "comments", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long commentId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -23,10 +35,16 @@ public class Comment extends BaseEntity {
     @Column(nullable = false, length = 3000)
     private String content;
 
+    //좋아요 수는 LikeCountBuffer 가 모아서 반영하는 비정규화 컬럼
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer likeCount;
+
     @Builder
     public Comment(Long commentId, Record record, String content) {
         this.commentId = commentId;
         this.record = record;
         this.content = content;
+        this.likeCount = 0;
     }
 }
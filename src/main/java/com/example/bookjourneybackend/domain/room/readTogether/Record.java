@@ -3,19 +3,28 @@ package com.example.bookjourneybackend.domain.room.readTogether;
 import com.example.bookjourneybackend.domain.room.Room;
 import com.example.bookjourneybackend.domain.user.User;
 import com.example.bookjourneybackend.global.entity.BaseEntity;
+import com.example.bookjourneybackend.global.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
-@Table(name = "records")
+@Table(name = "records", indexes = {
+        @Index(name = "idx_records_status_room_page_id", columnList = "status, room_id, book_page, record_id")
+})
+@SQLRestriction(BaseEntity.ACTIVE_ONLY)
 @NoArgsConstructor
 @Getter
 public class Record extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "records_id_generator")
+    @TableGenerator(name = "records_id_generator", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "records", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long recordId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -32,6 +41,11 @@ public class Record extends BaseEntity {
     @Column(nullable = false, length = 3000)
     private String content;
 
+    //좋아요 수는 LikeCountBuffer 가 모아서 반영하는 비정규화 컬럼
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer likeCount;
+
     @Builder
     public Record(Long recordId, Room room, User user, Integer bookPage, String content) {
         this.recordId = recordId;
@@ -39,5 +53,6 @@ public class Record extends BaseEntity {
         this.user = user;
         this.bookPage = bookPage;
         this.content = content;
+        this.likeCount = 0;
     }
 }
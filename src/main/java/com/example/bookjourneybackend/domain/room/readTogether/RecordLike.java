@@ -2,19 +2,30 @@ package com.example.bookjourneybackend.domain.room.readTogether;
 
 import com.example.bookjourneybackend.domain.user.User;
 import com.example.bookjourneybackend.global.entity.BaseEntity;
+import com.example.bookjourneybackend.global.entity.IdSequences;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
-@Table(name = "record_likes")
+//같은 유저의 중복 좋아요 방지 (좋아요 취소는 행을 지운다)
+@Table(name = "record_likes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_record_likes_record_user", columnNames = {"record_id", "user_id"})
+}, indexes = {
+        @Index(name = "idx_record_likes_status_record_user", columnList = "status, record_id, user_id")
+})
+@SQLRestriction(BaseEntity.ACTIVE_ONLY)
 @NoArgsConstructor
 @Getter
 public class RecordLike extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "record_likes_id_generator")
+    @TableGenerator(name = "record_likes_id_generator", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "record_likes", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long recordLikeId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -3,17 +3,25 @@ package com.example.bookjourneybackend.domain.room.readTogether;
 import com.example.bookjourneybackend.domain.room.Room;
 import com.example.bookjourneybackend.global.entity.BaseEntity;
 import com.example.bookjourneybackend.global.entity.EntityStatus;
+import com.example.bookjourneybackend.global.entity.RoomTogetherPhase;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @NoArgsConstructor
 @Entity
 @Getter
-@Table(name = "read_together")
+@Table(name = "read_together", indexes = {
+        @Index(name = "idx_read_together_status_next_transition", columnList = "status, next_transition_at"),
+        //공개 방 탐색: 모집 마감이 가까운 순 keyset
+        @Index(name = "idx_read_together_public_recruit",
+                columnList = "is_public, status, recruit_end_date, read_together_id")
+})
+@EntityListeners(RoomTogetherLifecycleListener.class)
 public class RoomTogether extends BaseEntity{
 
     @Id
@@ -53,6 +61,17 @@ public class RoomTogether extends BaseEntity{
     @Column(nullable = false)
     private Integer recordCount;
 
+    //참여 인원 (recruitCount 와 비교해 남은 자리를 판단하는 비정규화 컬럼)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer memberCount;
+
+    //모집/진행 기간 기준 현재 단계와 다음 단계로 넘어가는 시각 (종료 후에는 null)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private RoomTogetherPhase phase;
+
+    private LocalDateTime nextTransitionAt;
 
     @Builder
     public RoomTogether(Long readTogetherId, Room room, String roomName, boolean isPublic, Integer password, Double roomPercentage, LocalDateTime progressStartDate, LocalDateTime progressEndDate, LocalDateTime recruitStartDate, LocalDateTime recruitEndDate, Integer recruitCount, Integer recordCount) {
@@ -68,5 +87,37 @@ public class RoomTogether extends BaseEntity{
         this.recruitEndDate = recruitEndDate;
         this.recruitCount = recruitCount;
         this.recordCount = recordCount;
+        this.memberCount = 0;
+    }
+
+    @Override
+    protected void prePersist() {
+        super.prePersist();
+        if (phase == null) {
+            refreshPhase(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * now 기준으로 단계를 다시 계산한다. 진행 종료 시각이 지나면 EXPIRED 로 바꾼다.
+     * @return 단계가 바뀌었는지 여부
+     */
+    public boolean refreshPhase(LocalDateTime now) {
+        RoomTogetherPhase before = phase;
+        if (!now.isBefore(progressEndDate)) {
+            phase = RoomTogetherPhase.FINISHED;
+            nextTransitionAt = null;
+            updateStatus(EntityStatus.EXPIRED);
+        } else if (now.isBefore(recruitEndDate)) {
+            phase = RoomTogetherPhase.RECRUITING;
+            nextTransitionAt = recruitEndDate;
+        } else if (now.isBefore(progressStartDate)) {
+            phase = RoomTogetherPhase.RECRUIT_CLOSED;
+            nextTransitionAt = progressStartDate;
+        } else {
+            phase = RoomTogetherPhase.PROGRESSING;
+            nextTransitionAt = progressEndDate;
+        }
+        return before != phase;
     }
 }
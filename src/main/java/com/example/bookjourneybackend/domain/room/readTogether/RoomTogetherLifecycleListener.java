@@ -0,0 +1,47 @@
+package com.example.bookjourneybackend.domain.room.readTogether;
+
+import com.example.bookjourneybackend.domain.room.readTogether.service.RoomLifecycleScheduler;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방 생성/기간 변경을 커밋 이후 RoomLifecycleScheduler 에 반영한다.
+ * 이미 적재된 시간 구간 안의 전이만 직접 등록하고, 그 이후는 스케줄러가 구간을 넓힐 때 읽어 간다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomTogetherLifecycleListener {
+
+    private final ObjectProvider<RoomLifecycleScheduler> roomLifecycleScheduler;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(RoomTogether roomTogether) {
+        Long readTogetherId = roomTogether.getReadTogetherId();
+        LocalDateTime nextTransitionAt = roomTogether.getNextTransitionAt();
+        if (nextTransitionAt == null) {
+            return;
+        }
+        afterCommit(() -> roomLifecycleScheduler.getObject().schedule(readTogetherId, nextTransitionAt));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.bookjourneybackend.domain.room.readTogether.controller;
+
+import com.example.bookjourneybackend.domain.room.readTogether.service.LikeService;
+import com.example.bookjourneybackend.global.auth.CurrentUserId;
+import com.example.bookjourneybackend.global.response.BaseResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+public class LikeController {
+
+    private final LikeService likeService;
+
+    @PostMapping("/records/{recordId}/likes")
+    public BaseResponse<Void> likeRecord(@PathVariable Long recordId, @CurrentUserId Long userId) {
+        likeService.likeRecord(recordId, userId);
+        return BaseResponse.ok(null);
+    }
+
+    @DeleteMapping("/records/{recordId}/likes")
+    public BaseResponse<Void> unlikeRecord(@PathVariable Long recordId, @CurrentUserId Long userId) {
+        likeService.unlikeRecord(recordId, userId);
+        return BaseResponse.ok(null);
+    }
+
+    @PostMapping("/comments/{commentId}/likes")
+    public BaseResponse<Void> likeComment(@PathVariable Long commentId, @CurrentUserId Long userId) {
+        likeService.likeComment(commentId, userId);
+        return BaseResponse.ok(null);
+    }
+
+    @DeleteMapping("/comments/{commentId}/likes")
+    public BaseResponse<Void> unlikeComment(@PathVariable Long commentId, @CurrentUserId Long userId) {
+        likeService.unlikeComment(commentId, userId);
+        return BaseResponse.ok(null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.bookjourneybackend.domain.room.readTogether.controller;
+
+import com.example.bookjourneybackend.domain.room.readTogether.dto.request.PostCommentRequest;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.request.PostRecordRequest;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.CommentInfo;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.GetCommentFeedResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.GetRecordCardResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.GetRecordFeedResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.RecordInfo;
+import com.example.bookjourneybackend.domain.room.readTogether.service.CommentService;
+import com.example.bookjourneybackend.domain.room.readTogether.service.RoomFeedService;
+import com.example.bookjourneybackend.domain.room.readTogether.service.RecordService;
+import com.example.bookjourneybackend.global.auth.CurrentUserId;
+import com.example.bookjourneybackend.global.response.BaseResponse;
+import com.example.bookjourneybackend.global.response.StreamingResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+public class RecordController {
+
+    private final RecordService recordService;
+    private final CommentService commentService;
+    private final RoomFeedService roomFeedService;
+
+    @GetMapping("/rooms/{roomId}/records")
+    public BaseResponse<GetRecordFeedResponse> getRecordFeed(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Integer cursorBookPage,
+            @RequestParam(required = false) Long cursorRecordId,
+            @RequestParam(defaultValue = "20") int size) {
+        return BaseResponse.ok(recordService.getRecordFeed(roomId, cursorBookPage, cursorRecordId, size));
+    }
+
+    @PostMapping("/rooms/{roomId}/records")
+    public BaseResponse<RecordInfo> createRecord(@PathVariable Long roomId,
+                                                 @CurrentUserId Long userId,
+                                                 @RequestBody PostRecordRequest request) {
+        return BaseResponse.ok(recordService.createRecord(roomId, userId, request));
+    }
+
+    //새 기록/댓글/좋아요 변경을 SSE 로 받는다. 재접속 시 Last-Event-ID 이후 이벤트부터 다시 보낸다
+    @GetMapping(value = "/rooms/{roomId}/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeRoomFeed(@PathVariable Long roomId,
+                                        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return roomFeedService.subscribe(roomId, lastEventId);
+    }
+
+    //Accept: application/x-ndjson 이면 한 줄에 기록 하나씩
+    @GetMapping("/rooms/{roomId}/records/export")
+    public ResponseEntity<StreamingResponseBody> exportRecords(
+            @PathVariable Long roomId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return recordService.exportRecords(roomId, StreamingResponses.acceptsNdjson(accept));
+    }
+
+    @GetMapping("/records/{recordId}")
+    public BaseResponse<GetRecordCardResponse> getRecordCard(@PathVariable Long recordId) {
+        return BaseResponse.ok(recordService.getRecordCard(recordId));
+    }
+
+    @GetMapping("/records/{recordId}/comments")
+    public BaseResponse<GetCommentFeedResponse> getCommentFeed(
+            @PathVariable Long recordId,
+            @RequestParam(required = false) Long cursorCommentId,
+            @RequestParam(defaultValue = "20") int size) {
+        return BaseResponse.ok(commentService.getCommentFeed(recordId, cursorCommentId, size));
+    }
+
+    @PostMapping("/records/{recordId}/comments")
+    public BaseResponse<CommentInfo> createComment(@PathVariable Long recordId,
+                                                   @RequestBody PostCommentRequest request) {
+        return BaseResponse.ok(commentService.createComment(recordId, request));
+    }
+}
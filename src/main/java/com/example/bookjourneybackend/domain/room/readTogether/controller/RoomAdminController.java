@@ -0,0 +1,32 @@
+package com.example.bookjourneybackend.domain.room.readTogether.controller;
+
+import com.example.bookjourneybackend.domain.room.readTogether.service.LikeCountBuffer;
+import com.example.bookjourneybackend.domain.room.readTogether.service.OpenRoomService;
+import com.example.bookjourneybackend.global.response.BaseResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+//X-Admin-Token 헤더 검사는 AdminTokenInterceptor
+//비정상 종료 등으로 어긋난 비정규화 카운트를 원본 테이블 기준으로 다시 맞추는 점검용 API
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class RoomAdminController {
+
+    private final OpenRoomService openRoomService;
+    private final LikeCountBuffer likeCountBuffer;
+
+    @PostMapping("/rooms/together/member-count/rebuild")
+    public BaseResponse<Void> rebuildMemberCount() {
+        openRoomService.rebuildMemberCount();
+        return BaseResponse.ok(null);
+    }
+
+    @PostMapping("/likes/like-count/rebuild")
+    public BaseResponse<Void> rebuildLikeCount() {
+        likeCountBuffer.rebuild();
+        return BaseResponse.ok(null);
+    }
+}
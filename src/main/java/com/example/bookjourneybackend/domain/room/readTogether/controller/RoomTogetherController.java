@@ -0,0 +1,37 @@
+package com.example.bookjourneybackend.domain.room.readTogether.controller;
+
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.GetOpenRoomsResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.PostJoinRoomResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.service.OpenRoomService;
+import com.example.bookjourneybackend.domain.room.readTogether.service.RoomJoinService;
+import com.example.bookjourneybackend.global.auth.CurrentUserId;
+import com.example.bookjourneybackend.global.response.BaseResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequiredArgsConstructor
+public class RoomTogetherController {
+
+    private final OpenRoomService openRoomService;
+    private final RoomJoinService roomJoinService;
+
+    @GetMapping("/rooms/together")
+    public BaseResponse<GetOpenRoomsResponse> getOpenRooms(
+            @RequestParam(required = false) String genreType,
+            @RequestParam(required = false) Long bookId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorRecruitEndDate,
+            @RequestParam(required = false) Long cursorReadTogetherId,
+            @RequestParam(defaultValue = "20") int size) {
+        return BaseResponse.ok(openRoomService.getOpenRooms(genreType, bookId, cursorRecruitEndDate, cursorReadTogetherId, size));
+    }
+
+    @PostMapping("/rooms/together/{readTogetherId}/members")
+    public BaseResponse<PostJoinRoomResponse> joinRoom(@PathVariable Long readTogetherId,
+                                                       @CurrentUserId Long userId) {
+        return BaseResponse.ok(roomJoinService.joinRoom(readTogetherId, userId));
+    }
+}
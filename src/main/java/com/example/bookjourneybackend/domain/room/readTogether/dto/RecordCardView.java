@@ -0,0 +1,33 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기록 카드 조회용 인터페이스 프로젝션 (RecordRepository.findCardByRecordId 의 별칭과 getter 이름이 같아야 한다)
+ */
+public interface RecordCardView {
+
+    Long getRecordId();
+
+    Integer getBookPage();
+
+    String getContent();
+
+    Integer getLikeCount();
+
+    LocalDateTime getCreatedAt();
+
+    Long getUserId();
+
+    String getNickname();
+
+    Long getRoomId();
+
+    Long getBookId();
+
+    String getBookTitle();
+
+    String getAuthorName();
+
+    String getImageUrl();
+}
@@ -0,0 +1,8 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto;
+
+public record RoomProgressRow(
+        Long readTogetherId,
+        Long memberCount,
+        Double percentageSum
+) {
+}
@@ -0,0 +1,9 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto;
+
+import java.time.LocalDateTime;
+
+public record RoomTransitionRow(
+        Long readTogetherId,
+        LocalDateTime nextTransitionAt
+) {
+}
@@ -0,0 +1,6 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto.request;
+
+public record PostCommentRequest(
+        String content
+) {
+}
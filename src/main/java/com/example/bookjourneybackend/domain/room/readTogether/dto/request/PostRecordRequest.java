@@ -0,0 +1,7 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto.request;
+
+public record PostRecordRequest(
+        Integer bookPage,
+        String content
+) {
+}
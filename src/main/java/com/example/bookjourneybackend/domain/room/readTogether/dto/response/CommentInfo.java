@@ -0,0 +1,21 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto.response;
+
+import com.example.bookjourneybackend.domain.room.readTogether.Comment;
+
+import java.time.LocalDateTime;
+
+public record CommentInfo(
+        Long commentId,
+        String content,
+        Integer likeCount,
+        LocalDateTime createdAt
+) {
+    public static CommentInfo from(Comment comment) {
+        return new CommentInfo(
+                comment.getCommentId(),
+                comment.getContent(),
+                comment.getLikeCount(),
+                comment.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto.response;
+
+public record FeedCommentInfo(
+        Long recordId,
+        CommentInfo comment
+) {
+}
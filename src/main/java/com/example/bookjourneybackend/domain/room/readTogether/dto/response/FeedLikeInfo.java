@@ -0,0 +1,9 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto.response;
+
+//좋아요 +1 / 취소 -1. 댓글 좋아요면 commentId 도 채운다
+public record FeedLikeInfo(
+        Long recordId,
+        Long commentId,
+        int delta
+) {
+}
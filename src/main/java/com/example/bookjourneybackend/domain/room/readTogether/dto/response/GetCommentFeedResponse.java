@@ -0,0 +1,17 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto.response;
+
+import java.util.List;
+
+//다음 페이지 요청 시 nextCommentId 를 커서로 그대로 넘긴다
+public record GetCommentFeedResponse(
+        List<CommentInfo> comments,
+        Long nextCommentId,
+        boolean hasNext
+) {
+    public static GetCommentFeedResponse of(List<CommentInfo> comments, boolean hasNext) {
+        if (comments.isEmpty()) {
+            return new GetCommentFeedResponse(comments, null, false);
+        }
+        return new GetCommentFeedResponse(comments, comments.get(comments.size() - 1).commentId(), hasNext);
+    }
+}
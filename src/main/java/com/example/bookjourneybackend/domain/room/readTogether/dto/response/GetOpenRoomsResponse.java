@@ -0,0 +1,20 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+//다음 페이지 요청 시 nextRecruitEndDate, nextReadTogetherId 를 커서로 그대로 넘긴다
+public record GetOpenRoomsResponse(
+        List<OpenRoomInfo> rooms,
+        LocalDateTime nextRecruitEndDate,
+        Long nextReadTogetherId,
+        boolean hasNext
+) {
+    public static GetOpenRoomsResponse of(List<OpenRoomInfo> rooms, boolean hasNext) {
+        if (rooms.isEmpty()) {
+            return new GetOpenRoomsResponse(rooms, null, null, false);
+        }
+        OpenRoomInfo last = rooms.get(rooms.size() - 1);
+        return new GetOpenRoomsResponse(rooms, last.recruitEndDate(), last.readTogetherId(), hasNext);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto.response;
+
+import com.example.bookjourneybackend.domain.room.readTogether.dto.RecordCardView;
+
+import java.time.LocalDateTime;
+
+public record GetRecordCardResponse(
+        Long recordId,
+        Integer bookPage,
+        String content,
+        Integer likeCount,
+        LocalDateTime createdAt,
+        Long userId,
+        String nickname,
+        Long roomId,
+        Long bookId,
+        String bookTitle,
+        String authorName,
+        String bookImageUrl
+) {
+    public static GetRecordCardResponse from(RecordCardView view) {
+        return new GetRecordCardResponse(
+                view.getRecordId(),
+                view.getBookPage(),
+                view.getContent(),
+                view.getLikeCount(),
+                view.getCreatedAt(),
+                view.getUserId(),
+                view.getNickname(),
+                view.getRoomId(),
+                view.getBookId(),
+                view.getBookTitle(),
+                view.getAuthorName(),
+                view.getImageUrl()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto.response;
+
+import java.util.List;
+
+//다음 페이지 요청 시 nextBookPage, nextRecordId 를 커서로 그대로 넘긴다
+public record GetRecordFeedResponse(
+        List<RecordInfo> records,
+        Integer nextBookPage,
+        Long nextRecordId,
+        boolean hasNext
+) {
+    public static GetRecordFeedResponse of(List<RecordInfo> records, boolean hasNext) {
+        if (records.isEmpty()) {
+            return new GetRecordFeedResponse(records, null, null, false);
+        }
+        RecordInfo last = records.get(records.size() - 1);
+        return new GetRecordFeedResponse(records, last.bookPage(), last.recordId(), hasNext);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto.response;
+
+import com.example.bookjourneybackend.global.entity.GenreType;
+
+import java.time.LocalDateTime;
+
+public record OpenRoomInfo(
+        Long readTogetherId,
+        String roomName,
+        Long bookId,
+        String bookTitle,
+        String authorName,
+        GenreType genre,
+        Integer recruitCount,
+        Integer memberCount,
+        LocalDateTime recruitEndDate,
+        LocalDateTime progressStartDate,
+        LocalDateTime progressEndDate
+) {
+}
@@ -0,0 +1,27 @@
+package com.example.bookjourneybackend.domain.room.readTogether.dto.response;
+
+import com.example.bookjourneybackend.domain.room.readTogether.Record;
+
+import java.time.LocalDateTime;
+
+public record RecordInfo(
+        Long recordId,
+        Long userId,
+        String nickname,
+        Integer bookPage,
+        String content,
+        Integer likeCount,
+        LocalDateTime createdAt
+) {
+    public static RecordInfo from(Record record) {
+        return new RecordInfo(
+                record.getRecordId(),
+                record.getUser().getUserId(),
+                record.getUser().getNickname(),
+                record.getBookPage(),
+                record.getContent(),
+                record.getLikeCount(),
+                record.getCreatedAt()
+        );
+    }
+}
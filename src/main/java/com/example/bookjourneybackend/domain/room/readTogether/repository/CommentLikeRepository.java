@@ -0,0 +1,15 @@
+package com.example.bookjourneybackend.domain.room.readTogether.repository;
+
+import com.example.bookjourneybackend.domain.room.readTogether.Comment;
+import com.example.bookjourneybackend.domain.room.readTogether.CommentLike;
+import com.example.bookjourneybackend.domain.user.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
+
+    boolean existsByCommentAndUser(Comment comment, User user);
+
+    Optional<CommentLike> findByCommentAndUser(Comment comment, User user);
+}
@@ -0,0 +1,42 @@
+package com.example.bookjourneybackend.domain.room.readTogether.repository;
+
+import com.example.bookjourneybackend.domain.room.readTogether.Comment;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.CommentInfo;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
+
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    //(status, record_id, comment_id) 인덱스를 타는 keyset 페이지네이션 (status 조건은 @SQLRestriction)
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("select new com.example.bookjourneybackend.domain.room.readTogether.dto.response.CommentInfo(" +
+            "c.commentId, c.content, c.likeCount, c.createdAt) " +
+            "from Comment c " +
+            "where c.record.recordId = :recordId " +
+            "order by c.commentId asc")
+    List<CommentInfo> findFirstPageByRecordId(@Param("recordId") Long recordId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("select new com.example.bookjourneybackend.domain.room.readTogether.dto.response.CommentInfo(" +
+            "c.commentId, c.content, c.likeCount, c.createdAt) " +
+            "from Comment c " +
+            "where c.record.recordId = :recordId and c.commentId > :commentId " +
+            "order by c.commentId asc")
+    List<CommentInfo> findPageByRecordIdAfter(@Param("recordId") Long recordId,
+                                              @Param("commentId") Long commentId,
+                                              Pageable pageable);
+
+    //좋아요 이벤트에 방 id 가 필요하므로 기록까지 한 번에 읽는다
+    @EntityGraph(Comment.WITH_RECORD)
+    Optional<Comment> findWithRecordByCommentId(Long commentId);
+}
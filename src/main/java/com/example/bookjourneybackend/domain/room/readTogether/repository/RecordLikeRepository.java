@@ -0,0 +1,15 @@
+package com.example.bookjourneybackend.domain.room.readTogether.repository;
+
+import com.example.bookjourneybackend.domain.room.readTogether.Record;
+import com.example.bookjourneybackend.domain.room.readTogether.RecordLike;
+import com.example.bookjourneybackend.domain.user.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface RecordLikeRepository extends JpaRepository<RecordLike, Long> {
+
+    boolean existsByRecordAndUser(Record record, User user);
+
+    Optional<RecordLike> findByRecordAndUser(Record record, User user);
+}
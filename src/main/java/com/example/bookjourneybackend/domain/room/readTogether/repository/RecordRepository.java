@@ -0,0 +1,68 @@
+package com.example.bookjourneybackend.domain.room.readTogether.repository;
+
+import com.example.bookjourneybackend.domain.room.readTogether.Record;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.RecordCardView;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.RecordInfo;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface RecordRepository extends JpaRepository<Record, Long> {
+
+    //(status, room_id, book_page, record_id) 인덱스를 타는 keyset 페이지네이션 (status 조건은 @SQLRestriction)
+    //피드는 읽기 전용이라 DTO 로 바로 받아 엔티티/프록시를 영속성 컨텍스트에 올리지 않고, 조회 전 auto flush 도 하지 않는다
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("select new com.example.bookjourneybackend.domain.room.readTogether.dto.response.RecordInfo(" +
+            "r.recordId, u.userId, u.nickname, r.bookPage, r.content, r.likeCount, r.createdAt) " +
+            "from Record r join r.user u " +
+            "where r.room.roomId = :roomId " +
+            "order by r.bookPage asc, r.recordId asc")
+    List<RecordInfo> findFirstPageByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("select new com.example.bookjourneybackend.domain.room.readTogether.dto.response.RecordInfo(" +
+            "r.recordId, u.userId, u.nickname, r.bookPage, r.content, r.likeCount, r.createdAt) " +
+            "from Record r join r.user u " +
+            "where r.room.roomId = :roomId " +
+            "and (r.bookPage > :bookPage or (r.bookPage = :bookPage and r.recordId > :recordId)) " +
+            "order by r.bookPage asc, r.recordId asc")
+    List<RecordInfo> findPageByRoomIdAfter(@Param("roomId") Long roomId,
+                                           @Param("bookPage") Integer bookPage,
+                                           @Param("recordId") Long recordId,
+                                           Pageable pageable);
+
+    //기록 카드: 기록 -> 작성자, 기록 -> 방 -> 도서 -> 도서 이미지를 한 번의 조인으로 인터페이스 프로젝션에 담는다
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("select r.recordId as recordId, r.bookPage as bookPage, r.content as content, " +
+            "r.likeCount as likeCount, r.createdAt as createdAt, " +
+            "u.userId as userId, u.nickname as nickname, " +
+            "ro.roomId as roomId, b.bookId as bookId, b.bookTitle as bookTitle, b.authorName as authorName, " +
+            "bi.imageUrl as imageUrl " +
+            "from Record r join r.user u join r.room ro join ro.book b " +
+            "left join BookImage bi on bi.book = b " +
+            "where r.recordId = :recordId")
+    Optional<RecordCardView> findCardByRecordId(@Param("recordId") Long recordId);
+
+    //export 용 스트리밍 조회. DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않는다
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.example.bookjourneybackend.domain.room.readTogether.dto.response.RecordInfo(" +
+            "r.recordId, u.userId, u.nickname, r.bookPage, r.content, r.likeCount, r.createdAt) " +
+            "from Record r join r.user u " +
+            "where r.room.roomId = :roomId " +
+            "order by r.bookPage asc, r.recordId asc")
+    Stream<RecordInfo> streamRecordInfosByRoomId(@Param("roomId") Long roomId);
+}
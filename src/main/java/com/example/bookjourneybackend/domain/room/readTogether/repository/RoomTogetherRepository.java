@@ -0,0 +1,64 @@
+package com.example.bookjourneybackend.domain.room.readTogether.repository;
+
+import com.example.bookjourneybackend.domain.room.readTogether.RoomTogether;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.RoomTransitionRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RoomTogetherRepository extends JpaRepository<RoomTogether, Long>, RoomTogetherRepositoryCustom {
+
+    //(status, next_transition_at) 인덱스 범위 조회. 기동 시에는 지난 전이까지 포함해 읽는다
+    @Query("select new com.example.bookjourneybackend.domain.room.readTogether.dto.RoomTransitionRow(" +
+            "rt.readTogetherId, rt.nextTransitionAt) " +
+            "from RoomTogether rt " +
+            "where rt.status = com.example.bookjourneybackend.global.entity.EntityStatus.ACTIVE " +
+            "and rt.nextTransitionAt <= :until")
+    List<RoomTransitionRow> findTransitionsUntil(@Param("until") LocalDateTime until);
+
+    @Query("select new com.example.bookjourneybackend.domain.room.readTogether.dto.RoomTransitionRow(" +
+            "rt.readTogetherId, rt.nextTransitionAt) " +
+            "from RoomTogether rt " +
+            "where rt.status = com.example.bookjourneybackend.global.entity.EntityStatus.ACTIVE " +
+            "and rt.nextTransitionAt > :after and rt.nextTransitionAt <= :until")
+    List<RoomTransitionRow> findTransitionsBetween(@Param("after") LocalDateTime after,
+                                                   @Param("until") LocalDateTime until);
+
+    //단계 컬럼 추가 이전에 만들어진 방
+    @Query("select rt from RoomTogether rt where rt.phase is null order by rt.readTogetherId asc")
+    List<RoomTogether> findAllWithoutPhase(Pageable pageable);
+
+    List<RoomTogether> findAllByReadTogetherIdIn(Collection<Long> readTogetherIds);
+
+    //호스트의 Room 은 read_together_id 가 비어 있고 RoomTogether.room 으로만 연결된다
+    @Query("select rt.readTogetherId from RoomTogether rt where rt.room.roomId = :roomId")
+    Optional<Long> findReadTogetherIdByHostRoomId(@Param("roomId") Long roomId);
+
+    @Query("select count(rt) > 0 from RoomTogether rt " +
+            "where rt.readTogetherId = :readTogetherId and rt.room.user.userId = :userId")
+    boolean existsHost(@Param("readTogetherId") Long readTogetherId, @Param("userId") Long userId);
+
+    @Query("select rt from RoomTogether rt join fetch rt.room r join fetch r.book " +
+            "where rt.readTogetherId = :readTogetherId")
+    Optional<RoomTogether> findWithHostRoomById(@Param("readTogetherId") Long readTogetherId);
+
+    /**
+     * 자리가 남아 있을 때만 member_count 를 1 올린다.
+     * 조건 검사와 증가가 한 문장의 행 잠금 안에서 끝나므로 동시에 들어와도 recruit_count 를 넘지 않는다.
+     * @return 1 이면 자리 확보, 0 이면 마감/만석
+     */
+    @Modifying
+    @Query("update RoomTogether rt set rt.memberCount = rt.memberCount + 1 " +
+            "where rt.readTogetherId = :readTogetherId " +
+            "and rt.status = com.example.bookjourneybackend.global.entity.EntityStatus.ACTIVE " +
+            "and rt.recruitEndDate > :now " +
+            "and rt.memberCount < rt.recruitCount")
+    int reserveSeat(@Param("readTogetherId") Long readTogetherId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,17 @@
+package com.example.bookjourneybackend.domain.room.readTogether.repository;
+
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.OpenRoomInfo;
+import com.example.bookjourneybackend.global.entity.GenreType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RoomTogetherRepositoryCustom {
+
+    /**
+     * 모집 중이고 자리가 남은 공개 방을 모집 마감이 가까운 순으로 조회.
+     * genre, bookId, 커서는 null 이면 조건에서 빠진다.
+     */
+    List<OpenRoomInfo> findOpenRooms(LocalDateTime now, GenreType genre, Long bookId,
+                                     LocalDateTime cursorRecruitEndDate, Long cursorReadTogetherId, int limit);
+}
@@ -0,0 +1,60 @@
+package com.example.bookjourneybackend.domain.room.readTogether.repository;
+
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.OpenRoomInfo;
+import com.example.bookjourneybackend.global.entity.GenreType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 필터 조합마다 "(:param is null or ...)" 를 쓰면 prepared statement 에서 인덱스를 못 타므로
+ * 실제로 넘어온 조건만 붙여 JPQL 을 만든다.
+ */
+public class RoomTogetherRepositoryImpl implements RoomTogetherRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<OpenRoomInfo> findOpenRooms(LocalDateTime now, GenreType genre, Long bookId,
+                                            LocalDateTime cursorRecruitEndDate, Long cursorReadTogetherId, int limit) {
+        StringBuilder jpql = new StringBuilder()
+                .append("select new com.example.bookjourneybackend.domain.room.readTogether.dto.response.OpenRoomInfo(")
+                .append("rt.readTogetherId, rt.roomName, b.bookId, b.bookTitle, b.authorName, g.genre, ")
+                .append("rt.recruitCount, rt.memberCount, rt.recruitEndDate, rt.progressStartDate, rt.progressEndDate) ")
+                .append("from RoomTogether rt join rt.room r join r.book b join b.genre g ")
+                .append("where rt.isPublic = true ")
+                .append("and rt.status = com.example.bookjourneybackend.global.entity.EntityStatus.ACTIVE ")
+                .append("and rt.recruitEndDate > :now ")
+                .append("and rt.memberCount < rt.recruitCount ");
+        if (genre != null) {
+            jpql.append("and g.genre = :genre ");
+        }
+        if (bookId != null) {
+            jpql.append("and b.bookId = :bookId ");
+        }
+        if (cursorReadTogetherId != null) {
+            jpql.append("and (rt.recruitEndDate > :cursorRecruitEndDate ")
+                    .append("or (rt.recruitEndDate = :cursorRecruitEndDate and rt.readTogetherId > :cursorReadTogetherId)) ");
+        }
+        jpql.append("order by rt.recruitEndDate asc, rt.readTogetherId asc");
+
+        TypedQuery<OpenRoomInfo> query = entityManager.createQuery(jpql.toString(), OpenRoomInfo.class)
+                .setParameter("now", now)
+                .setMaxResults(limit);
+        if (genre != null) {
+            query.setParameter("genre", genre);
+        }
+        if (bookId != null) {
+            query.setParameter("bookId", bookId);
+        }
+        if (cursorReadTogetherId != null) {
+            query.setParameter("cursorRecruitEndDate", cursorRecruitEndDate)
+                    .setParameter("cursorReadTogetherId", cursorReadTogetherId);
+        }
+        return query.getResultList();
+    }
+}
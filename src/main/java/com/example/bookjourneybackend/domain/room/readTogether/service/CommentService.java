@@ -0,0 +1,68 @@
+package com.example.bookjourneybackend.domain.room.readTogether.service;
+
+import com.example.bookjourneybackend.domain.room.event.RoomFeedEvent;
+import com.example.bookjourneybackend.domain.room.event.RoomFeedEventType;
+import com.example.bookjourneybackend.domain.room.readTogether.Comment;
+import com.example.bookjourneybackend.domain.room.readTogether.Record;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.request.PostCommentRequest;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.CommentInfo;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.FeedCommentInfo;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.GetCommentFeedResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.CommentRepository;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.RecordRepository;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.CANNOT_FOUND_RECORD;
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.EMPTY_CONTENT;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final RecordRepository recordRepository;
+    private final ReadTogetherRooms readTogetherRooms;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public GetCommentFeedResponse getCommentFeed(Long recordId, Long cursorCommentId, int size) {
+        RecordService.validatePageSize(size);
+        if (!recordRepository.existsById(recordId)) {
+            throw new GlobalException(CANNOT_FOUND_RECORD);
+        }
+
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<CommentInfo> comments = cursorCommentId == null
+                ? commentRepository.findFirstPageByRecordId(recordId, limit)
+                : commentRepository.findPageByRecordIdAfter(recordId, cursorCommentId, limit);
+
+        boolean hasNext = comments.size() > size;
+        List<CommentInfo> commentInfos = hasNext ? comments.subList(0, size) : comments;
+        return GetCommentFeedResponse.of(commentInfos, hasNext);
+    }
+
+    @Transactional
+    public CommentInfo createComment(Long recordId, PostCommentRequest request) {
+        if (request.content() == null || request.content().isBlank()) {
+            throw new GlobalException(EMPTY_CONTENT);
+        }
+        Record record = recordRepository.findById(recordId)
+                .orElseThrow(() -> new GlobalException(CANNOT_FOUND_RECORD));
+
+        Comment comment = commentRepository.save(Comment.builder()
+                .record(record)
+                .content(request.content())
+                .build());
+        CommentInfo commentInfo = CommentInfo.from(comment);
+        eventPublisher.publishEvent(new RoomFeedEvent(readTogetherRooms.feedChannelOf(record.getRoom()),
+                RoomFeedEventType.COMMENT_CREATED, new FeedCommentInfo(recordId, commentInfo)));
+        return commentInfo;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.bookjourneybackend.domain.room.readTogether.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 전체 테이블을 한 문장으로 다시 계산하지 않고 PK 구간별로 나눠 실행한다.
+ * 구간마다 따로 커밋되므로 행 잠금은 그 구간에만 잠깐 걸린다.
+ */
+final class KeyRangeBatches {
+
+    static final int BATCH_SIZE = 1000;
+
+    private KeyRangeBatches() {
+    }
+
+    //table, idColumn 은 상수만 넘긴다
+    static int forEach(JdbcTemplate jdbcTemplate, String table, String idColumn, RangeAction action) {
+        Long min = jdbcTemplate.queryForObject("select min(" + idColumn + ") from " + table, Long.class);
+        Long max = jdbcTemplate.queryForObject("select max(" + idColumn + ") from " + table, Long.class);
+        if (min == null || max == null) {
+            return 0;
+        }
+        int updated = 0;
+        for (long from = min; from <= max; from += BATCH_SIZE) {
+            updated += action.apply(from, Math.min(from + BATCH_SIZE - 1, max));
+        }
+        return updated;
+    }
+
+    @FunctionalInterface
+    interface RangeAction {
+        int apply(long fromId, long toId);
+    }
+}
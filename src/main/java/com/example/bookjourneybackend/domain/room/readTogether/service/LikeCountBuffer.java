@@ -0,0 +1,261 @@
+package com.example.bookjourneybackend.domain.room.readTogether.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * records.like_count / comments.like_count 를 write-behind 로 갱신한다.
+ * 좋아요 클릭마다 행 잠금을 잡지 않도록 증감분을 LongAdder 에 모아두고,
+ * 주기적으로 id 별로 합쳐진 값을 한 번의 배치 update 로 반영한다.
+ * 비정상 종료로 유실된 증감분은 기동 시 좋아요 테이블에서 다시 센 값으로 복구한다.
+ */
+@Slf4j
+@Component
+public class LikeCountBuffer {
+
+    private static final String UPDATE_RECORD_LIKE_COUNT =
+            "update records set like_count = like_count + ? where record_id = ?";
+    private static final String UPDATE_COMMENT_LIKE_COUNT =
+            "update comments set like_count = like_count + ? where comment_id = ?";
+    private static final String COUNT_RECORD_LIKES =
+            "select record_id, count(*) from record_likes where status = 'ACTIVE' and record_id between ? and ? group by record_id";
+    private static final String COUNT_COMMENT_LIKES =
+            "select comment_id, count(*) from comment_likes where status = 'ACTIVE' and comment_id between ? and ? group by comment_id";
+    private static final String RESET_RECORD_LIKE_COUNT =
+            "update records set like_count = 0 where record_id between ? and ? and like_count <> 0";
+    private static final String RESET_COMMENT_LIKE_COUNT =
+            "update comments set like_count = 0 where comment_id between ? and ? and like_count <> 0";
+    private static final String SET_RECORD_LIKE_COUNT =
+            "update records set like_count = ? where record_id = ?";
+    private static final String SET_COMMENT_LIKE_COUNT =
+            "update comments set like_count = ? where comment_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long rebuildPauseMillis;
+
+    private final ConcurrentHashMap<Long, LongAdder> recordDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LongAdder> commentDeltas = new ConcurrentHashMap<>();
+
+    //재계산한 구간의 증감분을 버리는 동안 flush 가 같은 값을 반영하지 않도록 막는다
+    //(락 안에서 JDBC 를 호출하므로 synchronized 대신 ReentrantLock)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    //좋아요 트랜잭션은 커밋 직전부터 증감분을 버퍼에 넣을 때까지 읽기 잠금을 잡고, 재계산은 스냅샷을 뜨는 동안 쓰기 잠금을 잡는다.
+    //그래서 어떤 좋아요든 스냅샷에 보이면서 버퍼에도 남아 있거나, 스냅샷에 안 보이면서 버퍼에서 버려지는 일이 없다
+    private final ReadWriteLock commitGate = new ReentrantReadWriteLock();
+
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "like-count-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LikeCountBuffer(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${like-count.rebuild-pause-millis}") long rebuildPauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildPauseMillis = rebuildPauseMillis;
+    }
+
+    //좋아요 트랜잭션 안에서 호출하고, 커밋된 경우에만 버퍼에 더한다
+    public void addRecordLike(Long recordId, long delta) {
+        addOnCommit(recordDeltas, recordId, delta);
+    }
+
+    public void addCommentLike(Long commentId, long delta) {
+        addOnCommit(commentDeltas, commentId, delta);
+    }
+
+    //아직 DB 에 반영되지 않은 증감분
+    public long pendingRecordLike(Long recordId) {
+        return pending(recordDeltas, recordId);
+    }
+
+    public long pendingCommentLike(Long commentId) {
+        return pending(commentDeltas, commentId);
+    }
+
+    @Scheduled(fixedDelayString = "${like-count.flush-interval-millis}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flush(recordDeltas, UPDATE_RECORD_LIKE_COUNT);
+            flush(commentDeltas, UPDATE_COMMENT_LIKE_COUNT);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        rebuilder.shutdownNow();
+        flush();
+    }
+
+    //직전 프로세스가 flush 전에 죽었다면 버퍼의 증감분이 유실됐으므로 기동할 때마다 뒤에서 구간별로 천천히 다시 맞춘다
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        rebuilder.execute(() -> {
+            try {
+                rebuild(rebuildPauseMillis);
+            } catch (CancellationException e) {
+                log.info("[LikeCountBuffer] background rebuild stopped by shutdown");
+            } catch (DataAccessException e) {
+                log.warn("[LikeCountBuffer] background rebuild failed", e);
+            }
+        });
+    }
+
+    /**
+     * 좋아요 테이블 기준으로 카운트를 다시 맞춘다 (기동 시 백그라운드, 관리자 API).
+     * 구간마다 스냅샷 이전에 커밋된 증감분은 버리고 이후에 커밋된 증감분은 버퍼에 남겨 다음 flush 에 더한다.
+     */
+    public void rebuild() {
+        rebuild(0);
+    }
+
+    //pauseMillis: 구간 사이에 쉬는 시간 (기동 직후 트래픽과 DB 를 다투지 않도록)
+    private void rebuild(long pauseMillis) {
+        int records = KeyRangeBatches.forEach(jdbcTemplate, "records", "record_id", (fromId, toId) -> pauseAfter(pauseMillis,
+                rebuild(recordDeltas, COUNT_RECORD_LIKES, RESET_RECORD_LIKE_COUNT, SET_RECORD_LIKE_COUNT, fromId, toId)));
+        int comments = KeyRangeBatches.forEach(jdbcTemplate, "comments", "comment_id", (fromId, toId) -> pauseAfter(pauseMillis,
+                rebuild(commentDeltas, COUNT_COMMENT_LIKES, RESET_COMMENT_LIKE_COUNT, SET_COMMENT_LIKE_COUNT, fromId, toId)));
+        log.info("[LikeCountBuffer] rebuilt like_count (records={}, comments={})", records, comments);
+    }
+
+    private int rebuild(ConcurrentHashMap<Long, LongAdder> deltas, String countSql, String resetSql, String setSql,
+                        long fromId, long toId) {
+        //구간을 다시 쓰는 동안 flush 가 like_count + ? 를 끼워 넣지 못하게 한다
+        flushLock.lock();
+        try {
+            Map<Long, Long> counts = new HashMap<>();
+            //커넥션을 먼저 잡아 둔다. 게이트에 막힌 좋아요 트랜잭션들이 풀을 다 쥐고 있어도 스냅샷을 뜰 수 있도록
+            transactionTemplate.executeWithoutResult(status -> {
+                commitGate.writeLock().lock();
+                try {
+                    //지금까지 커밋된 좋아요는 모두 버퍼에 들어와 있고 아래 스냅샷에도 보인다
+                    deltas.forEach((id, adder) -> {
+                        if (id >= fromId && id <= toId) {
+                            adder.reset();
+                        }
+                    });
+                    //잠금 읽기가 아닌 일반 select 라 커밋을 기다리는 좋아요 트랜잭션의 행 잠금과 엉키지 않는다
+                    jdbcTemplate.query(countSql, rs -> {
+                        counts.put(rs.getLong(1), rs.getLong(2));
+                    }, fromId, toId);
+                } finally {
+                    commitGate.writeLock().unlock();
+                }
+            });
+
+            List<Object[]> batch = new ArrayList<>();
+            counts.forEach((id, count) -> batch.add(new Object[]{count, id}));
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(resetSql, fromId, toId);
+                jdbcTemplate.batchUpdate(setSql, batch);
+            });
+            return counts.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private static int pauseAfter(long pauseMillis, int updated) {
+        if (pauseMillis > 0) {
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException();
+            }
+        }
+        return updated;
+    }
+
+    private void addOnCommit(ConcurrentHashMap<Long, LongAdder> deltas, Long id, long delta) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean gated;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitGate.readLock().lock();
+                gated = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                add(deltas, id, delta);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (gated) {
+                    commitGate.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    private void add(ConcurrentHashMap<Long, LongAdder> deltas, Long id, long delta) {
+        deltas.computeIfAbsent(id, key -> new LongAdder()).add(delta);
+    }
+
+    private long pending(ConcurrentHashMap<Long, LongAdder> deltas, Long id) {
+        LongAdder adder = deltas.get(id);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private void flush(ConcurrentHashMap<Long, LongAdder> deltas, String sql) {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : deltas.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                //한 주기 동안 변화가 없던 항목은 정리해서 맵이 계속 커지지 않도록 한다
+                deltas.remove(entry.getKey(), entry.getValue());
+                long late = entry.getValue().sumThenReset();
+                if (late != 0) {
+                    add(deltas, entry.getKey(), late);
+                }
+                continue;
+            }
+            batch.add(new Object[]{delta, entry.getKey()});
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(sql, batch);
+        } catch (DataAccessException e) {
+            //반영에 실패한 증감분은 다시 버퍼에 넣어 다음 주기에 재시도
+            log.warn("[LikeCountBuffer] flush failed, {} deltas will be retried", batch.size(), e);
+            batch.forEach(args -> add(deltas, (Long) args[1], (Long) args[0]));
+        }
+    }
+}
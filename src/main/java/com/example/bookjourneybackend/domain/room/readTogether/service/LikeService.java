@@ -0,0 +1,125 @@
+package com.example.bookjourneybackend.domain.room.readTogether.service;
+
+import com.example.bookjourneybackend.domain.room.event.RoomFeedEvent;
+import com.example.bookjourneybackend.domain.room.event.RoomFeedEventType;
+import com.example.bookjourneybackend.domain.room.readTogether.Comment;
+import com.example.bookjourneybackend.domain.room.readTogether.CommentLike;
+import com.example.bookjourneybackend.domain.room.readTogether.Record;
+import com.example.bookjourneybackend.domain.room.readTogether.RecordLike;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.FeedLikeInfo;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.CommentLikeRepository;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.CommentRepository;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.RecordLikeRepository;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.RecordRepository;
+import com.example.bookjourneybackend.domain.user.User;
+import com.example.bookjourneybackend.domain.user.repository.UserRepository;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.*;
+
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+
+    private final RecordRepository recordRepository;
+    private final CommentRepository commentRepository;
+    private final RecordLikeRepository recordLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final UserRepository userRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ReadTogetherRooms readTogetherRooms;
+    private final ApplicationEventPublisher eventPublisher;
+
+    //좋아요 행만 추가하고 records.like_count 는 LikeCountBuffer 가 모아서 반영한다 (롤백된 증감분이 섞이지 않도록 커밋 후에 넣는다)
+    @Transactional
+    public void likeRecord(Long recordId, Long userId) {
+        Record record = findRecord(recordId);
+        User user = findUser(userId);
+        if (recordLikeRepository.existsByRecordAndUser(record, user)) {
+            throw new GlobalException(ALREADY_LIKED_RECORD);
+        }
+        //확인과 저장 사이에 같은 좋아요가 먼저 들어간 경우 유니크 제약으로 걸러낸다
+        try {
+            recordLikeRepository.saveAndFlush(RecordLike.builder()
+                    .record(record)
+                    .user(user)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new GlobalException(ALREADY_LIKED_RECORD);
+        }
+        likeCountBuffer.addRecordLike(recordId, 1);
+        publishRecordLike(record, 1);
+    }
+
+    @Transactional
+    public void unlikeRecord(Long recordId, Long userId) {
+        Record record = findRecord(recordId);
+        User user = findUser(userId);
+        RecordLike recordLike = recordLikeRepository.findByRecordAndUser(record, user)
+                .orElseThrow(() -> new GlobalException(NOT_LIKED_RECORD));
+        recordLikeRepository.delete(recordLike);
+        likeCountBuffer.addRecordLike(recordId, -1);
+        publishRecordLike(record, -1);
+    }
+
+    @Transactional
+    public void likeComment(Long commentId, Long userId) {
+        Comment comment = findComment(commentId);
+        User user = findUser(userId);
+        if (commentLikeRepository.existsByCommentAndUser(comment, user)) {
+            throw new GlobalException(ALREADY_LIKED_COMMENT);
+        }
+        try {
+            commentLikeRepository.saveAndFlush(CommentLike.builder()
+                    .comment(comment)
+                    .user(user)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new GlobalException(ALREADY_LIKED_COMMENT);
+        }
+        likeCountBuffer.addCommentLike(commentId, 1);
+        publishCommentLike(comment, 1);
+    }
+
+    @Transactional
+    public void unlikeComment(Long commentId, Long userId) {
+        Comment comment = findComment(commentId);
+        User user = findUser(userId);
+        CommentLike commentLike = commentLikeRepository.findByCommentAndUser(comment, user)
+                .orElseThrow(() -> new GlobalException(NOT_LIKED_COMMENT));
+        commentLikeRepository.delete(commentLike);
+        likeCountBuffer.addCommentLike(commentId, -1);
+        publishCommentLike(comment, -1);
+    }
+
+    private void publishRecordLike(Record record, int delta) {
+        eventPublisher.publishEvent(new RoomFeedEvent(readTogetherRooms.feedChannelOf(record.getRoom()),
+                RoomFeedEventType.RECORD_LIKE_CHANGED, new FeedLikeInfo(record.getRecordId(), null, delta)));
+    }
+
+    private void publishCommentLike(Comment comment, int delta) {
+        Record record = comment.getRecord();
+        eventPublisher.publishEvent(new RoomFeedEvent(readTogetherRooms.feedChannelOf(record.getRoom()),
+                RoomFeedEventType.COMMENT_LIKE_CHANGED, new FeedLikeInfo(record.getRecordId(), comment.getCommentId(), delta)));
+    }
+
+    private Record findRecord(Long recordId) {
+        return recordRepository.findById(recordId)
+                .orElseThrow(() -> new GlobalException(CANNOT_FOUND_RECORD));
+    }
+
+    private Comment findComment(Long commentId) {
+        return commentRepository.findWithRecordByCommentId(commentId)
+                .orElseThrow(() -> new GlobalException(CANNOT_FOUND_COMMENT));
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new GlobalException(CANNOT_FOUND_USER));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.bookjourneybackend.domain.room.readTogether.service;
+
+import com.example.bookjourneybackend.domain.room.event.RoomRecruitmentChangedEvent;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.OpenRoomInfo;
+import com.example.bookjourneybackend.global.entity.GenreType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 장르별 "모집 중인 공개 방" 첫 페이지 캐시.
+ * TTL 은 짧게 두고, 참여/모집 마감으로 상태가 바뀐 방이 들어 있는 장르만 즉시 비운다.
+ * 새로 만들어진 방은 TTL 이 지나면 반영된다.
+ */
+@Component
+public class OpenRoomCache {
+
+    private final Cache<GenreType, List<OpenRoomInfo>> cache;
+
+    public OpenRoomCache(@Value("${open-room.cache-ttl-seconds}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(GenreType.values().length)
+                .build();
+    }
+
+    public List<OpenRoomInfo> get(GenreType genre, Function<GenreType, List<OpenRoomInfo>> loader) {
+        return cache.get(genre, loader);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecruitmentChanged(RoomRecruitmentChangedEvent event) {
+        Long readTogetherId = event.readTogetherId();
+        cache.asMap().forEach((genre, rooms) -> {
+            if (rooms.stream().anyMatch(room -> room.readTogetherId().equals(readTogetherId))) {
+                cache.invalidate(genre);
+            }
+        });
+    }
+}
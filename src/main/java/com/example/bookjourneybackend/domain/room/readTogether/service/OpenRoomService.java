@@ -0,0 +1,94 @@
+package com.example.bookjourneybackend.domain.room.readTogether.service;
+
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.GetOpenRoomsResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.OpenRoomInfo;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.RoomTogetherRepository;
+import com.example.bookjourneybackend.global.entity.GenreType;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OpenRoomService {
+
+    static final int MAX_PAGE_SIZE = 50;
+    //캐시에는 최대 페이지 + 1 개를 담아 어떤 size 든 다음 페이지 여부를 판단할 수 있게 한다
+    private static final int CACHED_SIZE = MAX_PAGE_SIZE + 1;
+
+    private static final String REBUILD_MEMBER_COUNT =
+            "update read_together rt set member_count = " +
+                    "(select count(*) from rooms r where r.read_together_id = rt.read_together_id and r.status = 'ACTIVE') " +
+                    "where rt.read_together_id between ? and ?";
+
+    private final RoomTogetherRepository roomTogetherRepository;
+    private final OpenRoomCache openRoomCache;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(readOnly = true)
+    public GetOpenRoomsResponse getOpenRooms(String genreType, Long bookId,
+                                             LocalDateTime cursorRecruitEndDate, Long cursorReadTogetherId, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new GlobalException(INVALID_PAGE_SIZE);
+        }
+        if ((cursorRecruitEndDate == null) != (cursorReadTogetherId == null)) {
+            throw new GlobalException(INVALID_CURSOR);
+        }
+        GenreType genre = null;
+        if (genreType != null) {
+            genre = GenreType.getGenreType(genreType);
+            if (genre == null) {
+                throw new GlobalException(INVALID_GENRE_TYPE);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OpenRoomInfo> rooms = null;
+        if (genre != null && bookId == null && cursorReadTogetherId == null) {
+            rooms = fromCache(genre, now, size);
+        }
+        if (rooms == null) {
+            //size + 1 개를 읽어 다음 페이지 존재 여부를 판단
+            rooms = roomTogetherRepository.findOpenRooms(now, genre, bookId,
+                    cursorRecruitEndDate, cursorReadTogetherId, size + 1);
+        }
+
+        boolean hasNext = rooms.size() > size;
+        return GetOpenRoomsResponse.of(rooms.stream().limit(size).toList(), hasNext);
+    }
+
+    /**
+     * 캐시된 첫 페이지에서 그 사이 모집이 끝난 방을 걸러낸다.
+     * 걸러낸 뒤 size + 1 개가 남지 않는데 캐시가 꽉 차 있었다면 뒤에 더 있을 수 있으므로 null (DB 조회)
+     */
+    private List<OpenRoomInfo> fromCache(GenreType genre, LocalDateTime now, int size) {
+        List<OpenRoomInfo> cached = openRoomCache.get(genre, key ->
+                roomTogetherRepository.findOpenRooms(now, key, null, null, null, CACHED_SIZE));
+        List<OpenRoomInfo> open = cached.stream()
+                .filter(room -> room.recruitEndDate().isAfter(now))
+                .toList();
+        if (open.size() <= size && cached.size() == CACHED_SIZE) {
+            return null;
+        }
+        return open;
+    }
+
+    /**
+     * 남은 자리 판단에 쓰는 member_count 를 rooms 기준으로 다시 맞춘다 (관리자 API 로 실행).
+     * 참여 트랜잭션과는 read_together 행 잠금으로 직렬화되므로 서비스 중에 돌려도 된다.
+     */
+    public void rebuildMemberCount() {
+        int updated = KeyRangeBatches.forEach(jdbcTemplate, "read_together", "read_together_id",
+                (fromId, toId) -> jdbcTemplate.update(REBUILD_MEMBER_COUNT, fromId, toId));
+        log.info("[OpenRoomService] rebuilt member_count (rooms={})", updated);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.bookjourneybackend.domain.room.readTogether.service;
+
+import com.example.bookjourneybackend.domain.room.Room;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.RoomTogetherRepository;
+import com.example.bookjourneybackend.domain.room.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Room 이 속한 같이읽기 방 찾기. 같이읽기 방은 멤버마다 Room 행이 따로 있으며,
+ * 멤버의 Room 은 read_together_id 로, 호스트의 Room 은 RoomTogether.room 으로 연결된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadTogetherRooms {
+
+    private final RoomTogetherRepository roomTogetherRepository;
+    private final RoomRepository roomRepository;
+
+    //혼자읽기 방이면 null
+    public Long readTogetherIdOf(Room room) {
+        if (room.getRoomTogether() != null) {
+            return room.getRoomTogether().getReadTogetherId();
+        }
+        return roomTogetherRepository.findReadTogetherIdByHostRoomId(room.getRoomId()).orElse(null);
+    }
+
+    //같이읽기 방의 피드는 멤버 전원이 같은 채널을 본다
+    public String feedChannelOf(Room room) {
+        Long readTogetherId = readTogetherIdOf(room);
+        return readTogetherId != null ? "together-" + readTogetherId : "room-" + room.getRoomId();
+    }
+
+    //방 주인이거나, 같이읽기 방이면 호스트 또는 멤버
+    public boolean isMember(Room room, Long userId) {
+        if (room.getUser().getUserId().equals(userId)) {
+            return true;
+        }
+        Long readTogetherId = readTogetherIdOf(room);
+        return readTogetherId != null
+                && (roomRepository.existsMember(readTogetherId, userId)
+                || roomTogetherRepository.existsHost(readTogetherId, userId));
+    }
+}
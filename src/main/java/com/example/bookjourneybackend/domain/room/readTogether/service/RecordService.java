@@ -0,0 +1,117 @@
+package com.example.bookjourneybackend.domain.room.readTogether.service;
+
+import com.example.bookjourneybackend.domain.room.Room;
+import com.example.bookjourneybackend.domain.room.event.RoomFeedEvent;
+import com.example.bookjourneybackend.domain.room.event.RoomFeedEventType;
+import com.example.bookjourneybackend.domain.room.readTogether.Record;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.request.PostRecordRequest;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.GetRecordCardResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.GetRecordFeedResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.RecordInfo;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.RecordRepository;
+import com.example.bookjourneybackend.domain.room.repository.RoomRepository;
+import com.example.bookjourneybackend.domain.stats.service.ReadingStatsRollup;
+import com.example.bookjourneybackend.domain.user.User;
+import com.example.bookjourneybackend.domain.user.repository.UserRepository;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import com.example.bookjourneybackend.global.response.StreamingResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.*;
+
+@Service
+@RequiredArgsConstructor
+public class RecordService {
+
+    static final int MAX_PAGE_SIZE = 50;
+
+    private final RecordRepository recordRepository;
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+    private final ReadingStatsRollup readingStatsRollup;
+    private final StreamingResponses streamingResponses;
+    private final ReadTogetherRooms readTogetherRooms;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public GetRecordFeedResponse getRecordFeed(Long roomId, Integer cursorBookPage, Long cursorRecordId, int size) {
+        validatePageSize(size);
+        if ((cursorBookPage == null) != (cursorRecordId == null)) {
+            throw new GlobalException(INVALID_CURSOR);
+        }
+        if (!roomRepository.existsById(roomId)) {
+            throw new GlobalException(CANNOT_FOUND_ROOM);
+        }
+
+        //size + 1 개를 읽어 다음 페이지 존재 여부를 판단
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<RecordInfo> records = cursorRecordId == null
+                ? recordRepository.findFirstPageByRoomId(roomId, limit)
+                : recordRepository.findPageByRoomIdAfter(roomId, cursorBookPage, cursorRecordId, limit);
+
+        boolean hasNext = records.size() > size;
+        List<RecordInfo> recordInfos = hasNext ? records.subList(0, size) : records;
+        return GetRecordFeedResponse.of(recordInfos, hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    public GetRecordCardResponse getRecordCard(Long recordId) {
+        return recordRepository.findCardByRecordId(recordId)
+                .map(GetRecordCardResponse::from)
+                .orElseThrow(() -> new GlobalException(CANNOT_FOUND_RECORD));
+    }
+
+    @Transactional
+    public RecordInfo createRecord(Long roomId, Long userId, PostRecordRequest request) {
+        if (request.content() == null || request.content().isBlank()) {
+            throw new GlobalException(EMPTY_CONTENT);
+        }
+        if (request.bookPage() == null || request.bookPage() < 0) {
+            throw new GlobalException(INVALID_BOOK_PAGE);
+        }
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new GlobalException(CANNOT_FOUND_ROOM));
+        if (!readTogetherRooms.isMember(room, userId)) {
+            throw new GlobalException(NOT_ROOM_MEMBER);
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new GlobalException(CANNOT_FOUND_USER));
+
+        Record record = recordRepository.save(Record.builder()
+                .room(room)
+                .user(user)
+                .bookPage(request.bookPage())
+                .content(request.content())
+                .build());
+        readingStatsRollup.addRecord(record);
+        RecordInfo recordInfo = RecordInfo.from(record);
+        eventPublisher.publishEvent(new RoomFeedEvent(readTogetherRooms.feedChannelOf(room),
+                RoomFeedEventType.RECORD_CREATED, recordInfo));
+        return recordInfo;
+    }
+
+    /**
+     * 방의 기록 전체 export. 전부 메모리에 올리지 않고 읽는 즉시 응답으로 흘려보낸다.
+     */
+    public ResponseEntity<StreamingResponseBody> exportRecords(Long roomId, boolean ndjson) {
+        //스트리밍이 시작되면 상태 코드를 바꿀 수 없으므로 검증은 먼저 끝낸다
+        if (!roomRepository.existsById(roomId)) {
+            throw new GlobalException(CANNOT_FOUND_ROOM);
+        }
+        return streamingResponses.ok(() -> recordRepository.streamRecordInfosByRoomId(roomId), ndjson);
+    }
+
+    static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new GlobalException(INVALID_PAGE_SIZE);
+        }
+    }
+}
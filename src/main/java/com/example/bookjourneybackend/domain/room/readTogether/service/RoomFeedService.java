@@ -0,0 +1,37 @@
+package com.example.bookjourneybackend.domain.room.readTogether.service;
+
+import com.example.bookjourneybackend.domain.room.Room;
+import com.example.bookjourneybackend.domain.room.event.RoomFeedEvent;
+import com.example.bookjourneybackend.domain.room.repository.RoomRepository;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import com.example.bookjourneybackend.global.sse.SseBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.CANNOT_FOUND_ROOM;
+
+/**
+ * 방 피드 구독과 전달. 기록/댓글/좋아요가 커밋된 뒤에만 내보내므로 롤백된 변경은 구독자에게 가지 않는다.
+ * 같이읽기 방은 어느 멤버의 roomId 로 구독해도 같은 채널(read_together)을 받는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RoomFeedService {
+
+    private final RoomRepository roomRepository;
+    private final ReadTogetherRooms readTogetherRooms;
+    private final SseBroadcaster sseBroadcaster;
+
+    public SseEmitter subscribe(Long roomId, String lastEventId) {
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new GlobalException(CANNOT_FOUND_ROOM));
+        return sseBroadcaster.subscribe(readTogetherRooms.feedChannelOf(room), lastEventId);
+    }
+
+    @TransactionalEventListener
+    public void onRoomFeed(RoomFeedEvent event) {
+        sseBroadcaster.publish(event.channel(), event.type().getEventName(), event.data());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.bookjourneybackend.domain.room.readTogether.service;
+
+import com.example.bookjourneybackend.domain.room.Room;
+import com.example.bookjourneybackend.domain.room.event.RoomProgressChangedEvent;
+import com.example.bookjourneybackend.domain.room.event.RoomRecruitmentChangedEvent;
+import com.example.bookjourneybackend.domain.room.readTogether.RoomTogether;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.PostJoinRoomResponse;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.RoomTogetherRepository;
+import com.example.bookjourneybackend.domain.room.repository.RoomRepository;
+import com.example.bookjourneybackend.domain.user.User;
+import com.example.bookjourneybackend.domain.user.repository.UserRepository;
+import com.example.bookjourneybackend.global.entity.EntityStatus;
+import com.example.bookjourneybackend.global.entity.RoomType;
+import com.example.bookjourneybackend.global.entity.UserRole;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.*;
+
+/**
+ * 같이읽기 방 참여.
+ * 자리 확보는 read_together 행에 대한 조건부 update 한 번으로 끝내고(비관적 락/재조회 없음),
+ * 만석으로 확인된 방은 잠시 메모리에 표시해 두어 이후 요청을 DB 까지 가지 않고 바로 거절한다.
+ */
+@Service
+public class RoomJoinService {
+
+    private final RoomTogetherRepository roomTogetherRepository;
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    //만석 표시는 짧게만 유지해 나가기/보정으로 생긴 자리는 곧 다시 DB 에서 확인한다
+    private final Cache<Long, Boolean> fullRooms;
+
+    public RoomJoinService(RoomTogetherRepository roomTogetherRepository,
+                           RoomRepository roomRepository,
+                           UserRepository userRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${room-join.full-mark-ttl-seconds}") long fullMarkTtlSeconds) {
+        this.roomTogetherRepository = roomTogetherRepository;
+        this.roomRepository = roomRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.fullRooms = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(fullMarkTtlSeconds))
+                .maximumSize(10_000)
+                .build();
+    }
+
+    @Transactional
+    public PostJoinRoomResponse joinRoom(Long readTogetherId, Long userId) {
+        if (fullRooms.getIfPresent(readTogetherId) != null) {
+            throw new GlobalException(ROOM_FULL);
+        }
+        RoomTogether roomTogether = roomTogetherRepository.findWithHostRoomById(readTogetherId)
+                .orElseThrow(() -> new GlobalException(CANNOT_FOUND_ROOM));
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new GlobalException(CANNOT_FOUND_USER));
+        if (roomRepository.existsMember(readTogetherId, userId)) {
+            throw new GlobalException(ALREADY_JOINED_ROOM);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (roomTogetherRepository.reserveSeat(readTogetherId, now) == 0) {
+            if (roomTogether.getStatus() != EntityStatus.ACTIVE || !roomTogether.getRecruitEndDate().isAfter(now)) {
+                throw new GlobalException(RECRUITMENT_CLOSED);
+            }
+            fullRooms.put(readTogetherId, Boolean.TRUE);
+            throw new GlobalException(ROOM_FULL);
+        }
+
+        Room member;
+        try {
+            //IDENTITY 라 바로 insert 되므로 중복 참여는 여기서 유니크 제약으로 걸린다 (자리 확보도 함께 롤백)
+            member = roomRepository.saveAndFlush(Room.builder()
+                    .roomType(RoomType.TOGETHER)
+                    .userRole(UserRole.MEMBER)
+                    .userPercentage(0.0)
+                    .user(user)
+                    .book(roomTogether.getRoom().getBook())
+                    .roomTogether(roomTogether)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new GlobalException(ALREADY_JOINED_ROOM);
+        }
+
+        eventPublisher.publishEvent(new RoomProgressChangedEvent(readTogetherId, 0.0, 1));
+        eventPublisher.publishEvent(new RoomRecruitmentChangedEvent(readTogetherId));
+        return new PostJoinRoomResponse(member.getRoomId(), readTogetherId);
+    }
+}
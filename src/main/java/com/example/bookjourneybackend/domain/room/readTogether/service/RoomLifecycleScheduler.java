@@ -0,0 +1,207 @@
+package com.example.bookjourneybackend.domain.room.readTogether.service;
+
+import com.example.bookjourneybackend.domain.room.event.RoomRecruitmentChangedEvent;
+import com.example.bookjourneybackend.domain.room.readTogether.RoomTogether;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.RoomTransitionRow;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.RoomTogetherRepository;
+import com.example.bookjourneybackend.global.entity.RoomTogetherPhase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 같이읽기 방의 모집 마감/진행 시작/종료(EXPIRED) 전이를 시간 버킷으로 관리한다.
+ * 전체 테이블을 주기적으로 훑지 않고 (status, next_transition_at) 인덱스로 앞으로 horizon 안에 올 전이만
+ * 조금씩 적재해 두고, 매 tick 에는 시각이 지난 버킷만 꺼내 배치로 전이시킨다.
+ * 기동 시에는 지난 전이까지 함께 읽으므로 서버가 내려가 있던 동안 놓친 전이도 바로 처리된다.
+ */
+@Slf4j
+@Component
+public class RoomLifecycleScheduler implements SmartInitializingSingleton {
+
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private final RoomTogetherRepository roomTogetherRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long bucketSeconds;
+    private final long horizonMinutes;
+    private final int batchSize;
+
+    //버킷 번호 -> 전이 시각이 그 버킷에 속한 방. 버킷 b 는 ((b-1)*bucketSeconds, b*bucketSeconds] 구간
+    private final TreeMap<Long, Set<Long>> buckets = new TreeMap<>();
+    private final Map<Long, Long> bucketOfRoom = new HashMap<>();
+    //이 시각까지의 전이는 메모리에 모두 올라와 있다
+    private LocalDateTime loadedUntil;
+
+    public RoomLifecycleScheduler(RoomTogetherRepository roomTogetherRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${room-lifecycle.bucket-seconds}") long bucketSeconds,
+                                  @Value("${room-lifecycle.horizon-minutes}") long horizonMinutes,
+                                  @Value("${room-lifecycle.batch-size}") int batchSize) {
+        this.roomTogetherRepository = roomTogetherRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.bucketSeconds = bucketSeconds;
+        this.horizonMinutes = horizonMinutes;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        backfillPhases();
+        LocalDateTime until = LocalDateTime.now().plusMinutes(horizonMinutes);
+        synchronized (this) {
+            loadedUntil = until;
+        }
+        List<RoomTransitionRow> rows = roomTogetherRepository.findTransitionsUntil(until);
+        rows.forEach(row -> schedule(row.readTogetherId(), row.nextTransitionAt()));
+        log.info("[RoomLifecycleScheduler] loaded {} transitions until {}", rows.size(), until);
+    }
+
+    /**
+     * 적재 구간을 앞으로 넓힌다. loadedUntil 을 먼저 옮겨 두어 조회 도중 바뀐 방은 리스너가 직접 등록하게 한다.
+     */
+    @Scheduled(fixedDelayString = "${room-lifecycle.load-interval-millis}")
+    public void loadUpcoming() {
+        LocalDateTime after;
+        LocalDateTime until = LocalDateTime.now().plusMinutes(horizonMinutes);
+        synchronized (this) {
+            if (loadedUntil == null || !until.isAfter(loadedUntil)) {
+                return;
+            }
+            after = loadedUntil;
+            loadedUntil = until;
+        }
+        List<RoomTransitionRow> rows = roomTogetherRepository.findTransitionsBetween(after, until);
+        rows.forEach(row -> schedule(row.readTogetherId(), row.nextTransitionAt()));
+    }
+
+    @Scheduled(fixedDelayString = "${room-lifecycle.tick-millis}")
+    public void fireDueTransitions() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due = drainDue(now);
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Long> chunk = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> transition(chunk, now));
+            } catch (RuntimeException e) {
+                //다음 버킷에서 다시 시도
+                log.error("[RoomLifecycleScheduler] transition failed for {} rooms", chunk.size(), e);
+                LocalDateTime retryAt = now.plusSeconds(bucketSeconds);
+                chunk.forEach(readTogetherId -> schedule(readTogetherId, retryAt));
+            }
+        }
+    }
+
+    /**
+     * 적재 구간 안의 전이만 등록한다. 같은 방이 이미 더 이른 버킷에 있으면 그대로 둔다
+     * (일찍 깨어나면 단계를 다시 계산해 실제 시각으로 재등록되므로 늦게 깨어나는 쪽만 막으면 된다).
+     */
+    public synchronized void schedule(Long readTogetherId, LocalDateTime nextTransitionAt) {
+        if (loadedUntil == null || nextTransitionAt.isAfter(loadedUntil)) {
+            return;
+        }
+        long bucket = bucketOf(nextTransitionAt);
+        Long current = bucketOfRoom.get(readTogetherId);
+        if (current != null) {
+            if (current <= bucket) {
+                return;
+            }
+            removeFromBucket(current, readTogetherId);
+        }
+        buckets.computeIfAbsent(bucket, key -> new HashSet<>()).add(readTogetherId);
+        bucketOfRoom.put(readTogetherId, bucket);
+    }
+
+    public synchronized int scheduledCount() {
+        return bucketOfRoom.size();
+    }
+
+    private void transition(List<Long> readTogetherIds, LocalDateTime now) {
+        List<RoomTogether> rooms = roomTogetherRepository.findAllByReadTogetherIdIn(readTogetherIds);
+        int changed = 0;
+        for (RoomTogether room : rooms) {
+            RoomTogetherPhase before = room.getPhase();
+            if (room.refreshPhase(now)) {
+                changed++;
+                //모집이 끝난 방은 공개 방 목록 캐시에서 내린다
+                if (before == RoomTogetherPhase.RECRUITING) {
+                    eventPublisher.publishEvent(new RoomRecruitmentChangedEvent(room.getReadTogetherId()));
+                }
+            }
+            //변경이 없으면 @PostUpdate 가 불리지 않으므로 다음 전이는 여기서 등록
+            if (room.getNextTransitionAt() != null) {
+                schedule(room.getReadTogetherId(), room.getNextTransitionAt());
+            }
+        }
+        if (changed > 0) {
+            log.info("[RoomLifecycleScheduler] {} rooms moved to next phase", changed);
+        }
+    }
+
+    private synchronized List<Long> drainDue(LocalDateTime now) {
+        NavigableMap<Long, Set<Long>> due = buckets.headMap(Math.floorDiv(epochSecond(now), bucketSeconds), true);
+        List<Long> readTogetherIds = new ArrayList<>();
+        for (Set<Long> ids : due.values()) {
+            readTogetherIds.addAll(ids);
+        }
+        due.clear();
+        readTogetherIds.forEach(bucketOfRoom::remove);
+        return readTogetherIds;
+    }
+
+    private void removeFromBucket(long bucket, Long readTogetherId) {
+        Set<Long> ids = buckets.get(bucket);
+        if (ids != null && ids.remove(readTogetherId) && ids.isEmpty()) {
+            buckets.remove(bucket);
+        }
+    }
+
+    //전이 시각을 올림해서 버킷을 정하므로 버킷 번호 <= 현재 시각/bucketSeconds 인 버킷은 모두 시각이 지난 것
+    private long bucketOf(LocalDateTime time) {
+        return Math.floorDiv(epochSecond(time) + bucketSeconds - 1, bucketSeconds);
+    }
+
+    private long epochSecond(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private void backfillPhases() {
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest chunk = PageRequest.of(0, BACKFILL_CHUNK_SIZE);
+        int total = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<RoomTogether> rooms = roomTogetherRepository.findAllWithoutPhase(chunk);
+                rooms.forEach(room -> room.refreshPhase(now));
+                return rooms.size();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            total += count;
+        }
+        if (total > 0) {
+            log.info("[RoomLifecycleScheduler] initialized phase for {} rooms", total);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.bookjourneybackend.domain.room.readTogether.service;
+
+import com.example.bookjourneybackend.domain.room.event.RoomProgressChangedEvent;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.RoomProgressRow;
+import com.example.bookjourneybackend.domain.room.repository.RoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * read_together.room_percentage 를 멤버 진행률의 합/인원 수로 증분 관리한다.
+ * 진행률이 바뀔 때마다 멤버 전체를 다시 읽지 않고 변화량만 더한 뒤,
+ * 바뀐 방만 모아서 주기적으로 한 번에 반영하고 주기적으로 DB 기준으로 보정한다.
+ * 처음 건드린 방은 변화량만 쌓아 두었다가 flush 때 DB 에서 읽은 값으로 채운다 (보정과 같은 경로).
+ */
+@Slf4j
+@Component
+public class RoomProgressAggregator {
+
+    private static final String UPDATE_ROOM_PERCENTAGE =
+            "update read_together set room_percentage = ? where read_together_id = ?";
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final RoomRepository roomRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, Progress> progresses = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyIds = ConcurrentHashMap.newKeySet();
+
+    //진행률 트랜잭션은 커밋 직전부터 변화량을 더할 때까지 읽기 잠금을 잡고, DB 값으로 채우거나 보정할 때는 쓰기 잠금을 잡는다.
+    //그래서 DB 스냅샷에 보이는 변화는 이미 메모리에 더해진 것뿐이고, 안 보이는 변화는 덮어쓴 뒤에 더해진다
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public RoomProgressAggregator(RoomRepository roomRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager) {
+        this.roomRepository = roomRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    //발행한 트랜잭션 안에서 받고, 커밋된 경우에만 변화량을 더한다
+    @EventListener
+    public void onProgressChanged(RoomProgressChangedEvent event) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean gated;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                lock.readLock().lock();
+                gated = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                apply(event);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (gated) {
+                    lock.readLock().unlock();
+                }
+            }
+        });
+    }
+
+    private void apply(RoomProgressChangedEvent event) {
+        Long readTogetherId = event.readTogetherId();
+        //처음 보는 방이어도 여기서 DB 를 읽지 않는다. 읽은 값에 이번 변화가 들어 있는지 알 수 없기 때문
+        Progress progress = progresses.computeIfAbsent(readTogetherId, id -> new Progress());
+        synchronized (progress) {
+            progress.sum += event.percentageDelta();
+            progress.count += event.memberDelta();
+            progress.touched = true;
+        }
+        dirtyIds.add(readTogetherId);
+    }
+
+    public double getRoomPercentage(Long readTogetherId) {
+        Progress progress = progresses.get(readTogetherId);
+        if (progress != null) {
+            synchronized (progress) {
+                if (progress.loaded) {
+                    return progress.average();
+                }
+            }
+        }
+        return load(readTogetherId).average();
+    }
+
+    @Scheduled(fixedDelayString = "${room-progress.flush-interval-millis}")
+    public void flush() {
+        List<Long> unloadedIds = new ArrayList<>();
+        for (Long readTogetherId : dirtyIds) {
+            Progress progress = progresses.get(readTogetherId);
+            if (progress != null && !progress.isLoaded()) {
+                unloadedIds.add(readTogetherId);
+            }
+        }
+        reconcile(unloadedIds);
+
+        List<Object[]> batch = new ArrayList<>();
+        for (Iterator<Long> it = dirtyIds.iterator(); it.hasNext(); ) {
+            Long readTogetherId = it.next();
+            it.remove();
+            Progress progress = progresses.get(readTogetherId);
+            if (progress == null) {
+                continue;
+            }
+            synchronized (progress) {
+                if (!progress.loaded) {
+                    //위에서 채운 뒤 새로 들어온 방은 다음 주기에 채운다
+                    dirtyIds.add(readTogetherId);
+                    continue;
+                }
+                batch.add(new Object[]{progress.average(), readTogetherId});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_ROOM_PERCENTAGE, batch);
+        } catch (DataAccessException e) {
+            log.warn("[RoomProgressAggregator] flush failed for {} rooms, will retry", batch.size(), e);
+            batch.forEach(args -> dirtyIds.add((Long) args[1]));
+        }
+    }
+
+    /**
+     * 유실된 이벤트 등으로 생긴 오차를 DB 기준으로 보정한다.
+     * 직전 보정 이후 변화가 없던 방은 메모리에서 내린다.
+     */
+    @Scheduled(fixedDelayString = "${room-progress.reconcile-interval-millis}",
+            initialDelayString = "${room-progress.reconcile-interval-millis}")
+    public void reconcile() {
+        int corrected = reconcile(new ArrayList<>(progresses.keySet()));
+        if (corrected > 0) {
+            log.info("[RoomProgressAggregator] corrected drift in {} rooms", corrected);
+        }
+    }
+
+    private int reconcile(List<Long> readTogetherIds) {
+        int corrected = 0;
+        for (int from = 0; from < readTogetherIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = readTogetherIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, readTogetherIds.size()));
+            //커넥션을 먼저 잡아 둔 뒤, 읽은 값으로 덮어쓸 때까지 커밋을 멈춘다 (청크 단위로만 잡는다)
+            Integer chunkCorrected = transactionTemplate.execute(status -> {
+                lock.writeLock().lock();
+                try {
+                    return reconcileChunk(chunk);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+            corrected += chunkCorrected == null ? 0 : chunkCorrected;
+        }
+        return corrected;
+    }
+
+    private int reconcileChunk(List<Long> chunk) {
+        Map<Long, RoomProgressRow> rows = new HashMap<>();
+        roomRepository.sumProgressByReadTogetherIds(chunk).forEach(row -> rows.put(row.readTogetherId(), row));
+
+        int corrected = 0;
+        for (Long readTogetherId : chunk) {
+            Progress progress = progresses.get(readTogetherId);
+            if (progress == null) {
+                continue;
+            }
+            RoomProgressRow row = rows.get(readTogetherId);
+            long count = row == null ? 0 : row.memberCount();
+            double sum = row == null ? 0 : row.percentageSum();
+            synchronized (progress) {
+                if (!progress.loaded) {
+                    //처음 채우는 방: 쌓아 둔 변화량은 모두 스냅샷에 들어 있다
+                    progress.loaded = true;
+                    progress.count = count;
+                    progress.sum = sum;
+                    dirtyIds.add(readTogetherId);
+                } else if (progress.count != count || Math.abs(progress.sum - sum) > 1e-6) {
+                    progress.count = count;
+                    progress.sum = sum;
+                    dirtyIds.add(readTogetherId);
+                    corrected++;
+                }
+                if (!progress.touched && !dirtyIds.contains(readTogetherId)) {
+                    progresses.remove(readTogetherId, progress);
+                }
+                progress.touched = false;
+            }
+        }
+        return corrected;
+    }
+
+    private Progress load(Long readTogetherId) {
+        Progress progress = new Progress();
+        roomRepository.sumProgressByReadTogetherIds(List.of(readTogetherId)).forEach(row -> {
+            progress.count = row.memberCount();
+            progress.sum = row.percentageSum();
+        });
+        return progress;
+    }
+
+    private static final class Progress {
+
+        private double sum;
+        private long count;
+        private boolean touched = true;
+        //false 면 sum/count 는 DB 값 없이 쌓인 변화량뿐이다
+        private boolean loaded;
+
+        private synchronized boolean isLoaded() {
+            return loaded;
+        }
+
+        private double average() {
+            return count <= 0 ? 0.0 : sum / count;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.bookjourneybackend.domain.room.repository;
+
+import com.example.bookjourneybackend.domain.room.Room;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.RoomProgressRow;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RoomRepository extends JpaRepository<Room, Long> {
+
+    //진행률 변화량을 계산하는 동안 같은 방의 동시 갱신이 끼어들지 않도록 행을 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Room r where r.roomId = :roomId")
+    Optional<Room> findByIdForUpdate(@Param("roomId") Long roomId);
+
+    @Query("select new com.example.bookjourneybackend.domain.room.readTogether.dto.RoomProgressRow(" +
+            "r.roomTogether.readTogetherId, count(r), coalesce(sum(r.userPercentage), 0.0)) " +
+            "from Room r where r.roomTogether.readTogetherId in :readTogetherIds " +
+            "group by r.roomTogether.readTogetherId")
+    List<RoomProgressRow> sumProgressByReadTogetherIds(@Param("readTogetherIds") Collection<Long> readTogetherIds);
+
+    @Query("select count(r) > 0 from Room r " +
+            "where r.roomTogether.readTogetherId = :readTogetherId and r.user.userId = :userId")
+    boolean existsMember(@Param("readTogetherId") Long readTogetherId, @Param("userId") Long userId);
+}
@@ -0,0 +1,41 @@
+package com.example.bookjourneybackend.domain.room.service;
+
+import com.example.bookjourneybackend.domain.room.Room;
+import com.example.bookjourneybackend.domain.room.event.RoomProgressChangedEvent;
+import com.example.bookjourneybackend.domain.room.repository.RoomRepository;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.*;
+
+@Service
+@RequiredArgsConstructor
+public class RoomService {
+
+    private final RoomRepository roomRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    //같이읽기 방의 진행률은 RoomProgressAggregator 가 커밋 이후 변화량만 반영한다
+    @Transactional
+    public void updateUserPercentage(Long roomId, Long userId, Double userPercentage) {
+        if (userPercentage == null || userPercentage < 0 || userPercentage > 100) {
+            throw new GlobalException(INVALID_USER_PERCENTAGE);
+        }
+        Room room = roomRepository.findByIdForUpdate(roomId)
+                .orElseThrow(() -> new GlobalException(CANNOT_FOUND_ROOM));
+        if (!room.getUser().getUserId().equals(userId)) {
+            throw new GlobalException(NOT_ROOM_OWNER);
+        }
+
+        double delta = userPercentage - room.getUserPercentage();
+        room.updateUserPercentage(userPercentage);
+
+        if (room.getRoomTogether() != null && delta != 0) {
+            eventPublisher.publishEvent(
+                    new RoomProgressChangedEvent(room.getRoomTogether().getReadTogetherId(), delta, 0));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.bookjourneybackend.domain.stats;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계 테이블 백필 진행 표시. 백필을 시작할 때 넣고, 방 id 구간을 끝낼 때마다 그 구간과 같은 트랜잭션에서 진행 위치를 옮긴다.
+ * completedAt 이 있으면 집계가 기록 전체를 반영한 상태다.
+ */
+@Entity
+@Table(name = "rollup_backfills")
+@NoArgsConstructor
+@Getter
+public class RollupBackfill {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    //여기까지의 방은 집계가 채워져 있다
+    private Long backfilledRoomId;
+
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,53 @@
+package com.example.bookjourneybackend.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 방의 일별 독서 집계. maxBookPage 는 그날까지 기록된 가장 큰 페이지로, 다음 기록의 읽은 페이지 수 계산에 쓴다.
+ */
+@Entity
+@Table(name = "room_daily_stats", indexes = {
+        //기간 조회용. 복합 PK 의 컬럼 순서는 DDL 생성 시 속성 이름순으로 정해지므로 따로 둔다
+        @Index(name = "idx_room_daily_stats_room_date", columnList = "room_id, stat_date")
+})
+@IdClass(RoomDailyStat.Key.class)
+@NoArgsConstructor
+@Getter
+public class RoomDailyStat {
+
+    @Id
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer pagesRead;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer recordCount;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer maxBookPage;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long roomId;
+        private LocalDate statDate;
+    }
+}
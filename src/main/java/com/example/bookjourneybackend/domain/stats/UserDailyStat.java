@@ -0,0 +1,49 @@
+package com.example.bookjourneybackend.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 유저의 일별 독서 집계. 기록이 작성될 때 ReadingStatsRollup 이 증분으로 갱신한다.
+ */
+@Entity
+@Table(name = "user_daily_stats", indexes = {
+        //기간 조회용. 복합 PK 의 컬럼 순서는 DDL 생성 시 속성 이름순으로 정해지므로 따로 둔다
+        @Index(name = "idx_user_daily_stats_user_date", columnList = "user_id, stat_date")
+})
+@IdClass(UserDailyStat.Key.class)
+@NoArgsConstructor
+@Getter
+public class UserDailyStat {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer pagesRead;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer recordCount;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate statDate;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.bookjourneybackend.domain.stats.controller;
+
+import com.example.bookjourneybackend.domain.stats.dto.response.GetRoomReadingStatsResponse;
+import com.example.bookjourneybackend.domain.stats.dto.response.GetUserReadingStatsResponse;
+import com.example.bookjourneybackend.domain.stats.service.ReadingStatsService;
+import com.example.bookjourneybackend.global.response.BaseResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+public class ReadingStatsController {
+
+    private final ReadingStatsService readingStatsService;
+
+    @GetMapping("/users/{userId}/reading-stats")
+    public BaseResponse<GetUserReadingStatsResponse> getUserStats(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return BaseResponse.ok(readingStatsService.getUserStats(userId, from, to));
+    }
+
+    @GetMapping("/rooms/{roomId}/reading-stats")
+    public BaseResponse<GetRoomReadingStatsResponse> getRoomStats(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return BaseResponse.ok(readingStatsService.getRoomStats(roomId, from, to));
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.bookjourneybackend.domain.stats.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record GetRoomReadingStatsResponse(
+        Long roomId,
+        Double userPercentage,
+        Integer lastBookPage,
+        LocalDate from,
+        LocalDate to,
+        int totalPages,
+        int totalRecords,
+        List<WeeklyReadingStat> weeks,
+        List<DailyReadingStat> days
+) {
+}
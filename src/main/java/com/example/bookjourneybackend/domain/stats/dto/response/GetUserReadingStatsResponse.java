@@ -0,0 +1,16 @@
+package com.example.bookjourneybackend.domain.stats.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record GetUserReadingStatsResponse(
+        LocalDate from,
+        LocalDate to,
+        int totalPages,
+        int totalRecords,
+        int currentStreak,
+        int longestStreak,
+        List<WeeklyReadingStat> weeks,
+        List<DailyReadingStat> days
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.bookjourneybackend.domain.stats.dto.response;
+
+import java.time.LocalDate;
+
+public record WeeklyReadingStat(
+        LocalDate weekStart,
+        int pagesRead,
+        int recordCount
+) {
+}
@@ -0,0 +1,24 @@
+package com.example.bookjourneybackend.domain.stats.repository;
+
+import com.example.bookjourneybackend.domain.stats.RoomDailyStat;
+import com.example.bookjourneybackend.domain.stats.dto.response.DailyReadingStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface RoomDailyStatRepository extends JpaRepository<RoomDailyStat, RoomDailyStat.Key> {
+
+    @Query("select new com.example.bookjourneybackend.domain.stats.dto.response.DailyReadingStat(" +
+            "s.statDate, s.pagesRead, s.recordCount) " +
+            "from RoomDailyStat s where s.roomId = :roomId and s.statDate between :from and :to " +
+            "order by s.statDate")
+    List<DailyReadingStat> findDailyStats(@Param("roomId") Long roomId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+
+    Optional<RoomDailyStat> findFirstByRoomIdOrderByStatDateDesc(Long roomId);
+}
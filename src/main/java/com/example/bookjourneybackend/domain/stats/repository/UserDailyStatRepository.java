@@ -0,0 +1,21 @@
+package com.example.bookjourneybackend.domain.stats.repository;
+
+import com.example.bookjourneybackend.domain.stats.UserDailyStat;
+import com.example.bookjourneybackend.domain.stats.dto.response.DailyReadingStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface UserDailyStatRepository extends JpaRepository<UserDailyStat, UserDailyStat.Key> {
+
+    @Query("select new com.example.bookjourneybackend.domain.stats.dto.response.DailyReadingStat(" +
+            "s.statDate, s.pagesRead, s.recordCount) " +
+            "from UserDailyStat s where s.userId = :userId and s.statDate between :from and :to " +
+            "order by s.statDate")
+    List<DailyReadingStat> findDailyStats(@Param("userId") Long userId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+}
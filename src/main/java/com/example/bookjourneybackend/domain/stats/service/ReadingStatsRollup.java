@@ -0,0 +1,300 @@
+package com.example.bookjourneybackend.domain.stats.service;
+
+import com.example.bookjourneybackend.domain.room.readTogether.Record;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기록 작성 시 유저/방의 일별 집계 행에 변화량만 더한다.
+ * 통계 조회는 집계 행 몇 개만 읽으므로 records 전체를 다시 모으지 않는다.
+ * 읽은 페이지 수는 방에서 지금까지 기록된 가장 큰 페이지보다 앞선 만큼만 센다 (되돌아간 기록은 0).
+ * 잠금 순서는 항상 방 행 → 백필 진행 행이다 (addRecord, 백필 청크 모두).
+ */
+@Slf4j
+@Component
+public class ReadingStatsRollup implements SmartInitializingSingleton {
+
+    //같은 방의 동시 기록이 같은 직전 페이지를 읽고 중복 집계하지 않도록 방 행을 잠근다
+    private static final String LOCK_ROOM =
+            "SELECT room_id FROM rooms WHERE room_id = ? FOR UPDATE";
+    //트랜잭션 앞쪽에서 만든 스냅샷이 아니라 방 잠금 이후의 최신 값을 읽도록 잠금 읽기로 한다
+    private static final String LAST_BOOK_PAGE =
+            "SELECT max_book_page FROM room_daily_stats WHERE room_id = ? ORDER BY stat_date DESC LIMIT 1 FOR UPDATE";
+    private static final String UPSERT_ROOM_STAT =
+            "INSERT INTO room_daily_stats (room_id, stat_date, pages_read, record_count, max_book_page) " +
+                    "VALUES (?, ?, ?, 1, ?) " +
+                    "ON DUPLICATE KEY UPDATE pages_read = pages_read + ?, record_count = record_count + 1, " +
+                    "max_book_page = GREATEST(max_book_page, ?)";
+    private static final String UPSERT_USER_STAT =
+            "INSERT INTO user_daily_stats (user_id, stat_date, pages_read, record_count) VALUES (?, ?, ?, 1) " +
+                    "ON DUPLICATE KEY UPDATE pages_read = pages_read + ?, record_count = record_count + 1";
+
+    private static final String BACKFILL_NAME = "reading-stats";
+    private static final String BACKFILL_DONE =
+            "SELECT name FROM rollup_backfills WHERE name = ? AND completed_at IS NOT NULL";
+    private static final String BACKFILL_PROGRESS =
+            "SELECT backfilled_room_id, completed_at FROM rollup_backfills WHERE name = ?";
+    private static final String LOCK_BACKFILL_PROGRESS = BACKFILL_PROGRESS + " FOR UPDATE";
+    //진행 중 표시. 먼저 넣은 인스턴스가 커밋할 때까지 다른 인스턴스의 insert 는 이 행에서 기다린다
+    private static final String START_BACKFILL =
+            "INSERT INTO rollup_backfills (name, backfilled_room_id) VALUES (?, 0)";
+    private static final String ADVANCE_BACKFILL = "UPDATE rollup_backfills SET backfilled_room_id = ? WHERE name = ?";
+    private static final String MARK_BACKFILL_DONE = "UPDATE rollup_backfills SET completed_at = ? WHERE name = ?";
+    private static final String MAX_ROOM_ID = "SELECT MAX(room_id) FROM rooms";
+    //addRecord 와 같은 방 행 잠금을 구간만큼 잡는다
+    private static final String LOCK_ROOMS = "SELECT room_id FROM rooms WHERE room_id BETWEEN ? AND ? FOR UPDATE";
+    private static final String CLEAR_ALL_ROOM_STATS = "DELETE FROM room_daily_stats";
+    private static final String CLEAR_ALL_USER_STATS = "DELETE FROM user_daily_stats";
+    private static final String CLEAR_ROOM_STATS = "DELETE FROM room_daily_stats WHERE room_id BETWEEN ? AND ?";
+    private static final String RECORDS_IN_ROOMS =
+            "SELECT room_id, user_id, book_page, created_at FROM records " +
+                    "WHERE status = 'ACTIVE' AND room_id BETWEEN ? AND ? ORDER BY room_id, created_at, record_id";
+    private static final String INSERT_ROOM_STAT =
+            "INSERT INTO room_daily_stats (room_id, stat_date, pages_read, record_count, max_book_page) " +
+                    "VALUES (?, ?, ?, ?, ?)";
+    //유저 집계는 여러 방에 걸치므로 구간마다 그 방들의 몫을 더한다
+    private static final String ADD_USER_STAT =
+            "INSERT INTO user_daily_stats (user_id, stat_date, pages_read, record_count) VALUES (?, ?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE pages_read = pages_read + ?, record_count = record_count + ?";
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int backfillRoomChunkSize;
+
+    public ReadingStatsRollup(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${reading-stats.backfill-room-chunk-size}") int backfillRoomChunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillRoomChunkSize = backfillRoomChunkSize;
+    }
+
+    /**
+     * 기록 저장과 같은 트랜잭션에서 호출해 기록과 집계가 함께 커밋/롤백되게 한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addRecord(Record record) {
+        Long roomId = record.getRoom().getRoomId();
+        Long userId = record.getUser().getUserId();
+        Date statDate = Date.valueOf(record.getCreatedAt().toLocalDate());
+        int bookPage = record.getBookPage();
+
+        jdbcTemplate.queryForList(LOCK_ROOM, Long.class, roomId);
+        //백필이 아직 이 방까지 오지 않았으면 건너뛴다. 이 기록은 그 방을 다시 채울 때 함께 센다
+        if (!isBackfilled(roomId)) {
+            return;
+        }
+        List<Integer> lastPages = jdbcTemplate.queryForList(LAST_BOOK_PAGE, Integer.class, roomId);
+        int lastBookPage = lastPages.isEmpty() ? 0 : lastPages.get(0);
+        int pagesRead = Math.max(0, bookPage - lastBookPage);
+        int maxBookPage = Math.max(bookPage, lastBookPage);
+
+        jdbcTemplate.update(UPSERT_ROOM_STAT, roomId, statDate, pagesRead, maxBookPage, pagesRead, maxBookPage);
+        jdbcTemplate.update(UPSERT_USER_STAT, userId, statDate, pagesRead, pagesRead);
+    }
+
+    /**
+     * 완료 표시가 없으면(최초 배포, 또는 중단된 백필) 기존 기록으로 집계 테이블을 채운다.
+     * 방 id 구간마다 따로 커밋하므로 방 잠금은 그 구간에만 잠깐 걸리고, 중간에 멈춰도 다음 기동 때 진행 위치부터 이어서 한다.
+     * 여러 인스턴스가 함께 돌아도 구간마다 진행 행을 잠그고 다시 확인하므로 같은 구간을 두 번 더하지 않는다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!jdbcTemplate.queryForList(BACKFILL_DONE, String.class, BACKFILL_NAME).isEmpty()) {
+            return;
+        }
+        try {
+            start();
+            int chunks = 0;
+            while (backfillNextChunk()) {
+                chunks++;
+            }
+            log.info("[ReadingStatsRollup] backfill completed ({} room chunks on this instance)", chunks);
+        } catch (DataAccessException e) {
+            //진행 위치까지는 커밋되어 있으므로 다음 기동 때 이어서 한다
+            log.warn("[ReadingStatsRollup] backfill stopped, will resume on next startup", e);
+        }
+    }
+
+    //진행 중 표시를 넣으면서 남아 있던 집계를 비운다. 이미 있으면 다른 인스턴스가 하고 있거나 중단된 백필이므로 이어서 한다
+    private void start() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                jdbcTemplate.update(START_BACKFILL, BACKFILL_NAME);
+            } catch (DuplicateKeyException e) {
+                return;
+            }
+            jdbcTemplate.update(CLEAR_ALL_ROOM_STATS);
+            jdbcTemplate.update(CLEAR_ALL_USER_STATS);
+        });
+    }
+
+    //방 id 구간 하나를 다시 채우고 진행 위치를 옮긴다. 모두 끝났으면 false
+    private boolean backfillNextChunk() {
+        //구간은 트랜잭션 밖에서 정한다. 청크 트랜잭션의 첫 일반 읽기가 잠금 이후여야 그 사이 커밋된 기록까지 보인다
+        long from = progress().backfilledRoomId() + 1;
+        Long maxRoomId = jdbcTemplate.queryForObject(MAX_ROOM_ID, Long.class);
+        if (maxRoomId == null || from > maxRoomId) {
+            return !complete();
+        }
+        long to = Math.min(from + backfillRoomChunkSize - 1, maxRoomId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList(LOCK_ROOMS, Long.class, from, to);
+            BackfillProgress progress = lockProgress();
+            //잠금을 기다리는 동안 다른 인스턴스가 이 구간을 끝냈다
+            if (progress.completed() || progress.backfilledRoomId() >= from) {
+                return;
+            }
+            jdbcTemplate.update(CLEAR_ROOM_STATS, from, to);
+            backfill(from, to);
+            jdbcTemplate.update(ADVANCE_BACKFILL, to, BACKFILL_NAME);
+        });
+        return true;
+    }
+
+    //진행 행을 잠근 뒤 방 최대 id 를 다시 읽는다. addRecord 가 진행 행을 기다리는 동안 새 방에 쓴 기록이 빠지지 않도록
+    private boolean complete() {
+        Boolean completed = transactionTemplate.execute(status -> {
+            BackfillProgress progress = lockProgress();
+            if (progress.completed()) {
+                return true;
+            }
+            Long maxRoomId = jdbcTemplate.queryForObject(MAX_ROOM_ID, Long.class);
+            if (maxRoomId != null && progress.backfilledRoomId() < maxRoomId) {
+                return false;
+            }
+            jdbcTemplate.update(MARK_BACKFILL_DONE, Timestamp.valueOf(LocalDateTime.now()), BACKFILL_NAME);
+            return true;
+        });
+        return Boolean.TRUE.equals(completed);
+    }
+
+    //방 행을 잠근 뒤에 호출한다
+    private boolean isBackfilled(Long roomId) {
+        //완료는 되돌아가지 않으므로 잠금 없이 읽어도 된다
+        if (!jdbcTemplate.queryForList(BACKFILL_DONE, String.class, BACKFILL_NAME).isEmpty()) {
+            return true;
+        }
+        //백필 중에만 청크와 같은 잠금으로 최신 진행 위치를 읽는다
+        List<BackfillProgress> progress = jdbcTemplate.query(LOCK_BACKFILL_PROGRESS, BACKFILL_PROGRESS_MAPPER, BACKFILL_NAME);
+        return !progress.isEmpty() && (progress.get(0).completed() || progress.get(0).backfilledRoomId() >= roomId);
+    }
+
+    private BackfillProgress progress() {
+        List<BackfillProgress> progress = jdbcTemplate.query(BACKFILL_PROGRESS, BACKFILL_PROGRESS_MAPPER, BACKFILL_NAME);
+        return progress.isEmpty() ? new BackfillProgress(0, false) : progress.get(0);
+    }
+
+    private BackfillProgress lockProgress() {
+        List<BackfillProgress> progress = jdbcTemplate.query(LOCK_BACKFILL_PROGRESS, BACKFILL_PROGRESS_MAPPER, BACKFILL_NAME);
+        if (progress.isEmpty()) {
+            throw new IllegalStateException("backfill marker is missing: " + BACKFILL_NAME);
+        }
+        return progress.get(0);
+    }
+
+    private void backfill(long fromRoomId, long toRoomId) {
+        List<Object[]> roomBatch = new ArrayList<>();
+        Map<UserDay, int[]> userTotals = new HashMap<>();
+        RoomCursor cursor = new RoomCursor();
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(RECORDS_IN_ROOMS);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, fromRoomId);
+            statement.setLong(2, toRoomId);
+            return statement;
+        }, rs -> {
+            long roomId = rs.getLong(1);
+            long userId = rs.getLong(2);
+            int bookPage = rs.getInt(3);
+            LocalDate statDate = rs.getTimestamp(4).toLocalDateTime().toLocalDate();
+
+            if (cursor.roomId != roomId || !statDate.equals(cursor.statDate)) {
+                cursor.flushTo(roomBatch);
+                if (cursor.roomId != roomId) {
+                    cursor.maxBookPage = 0;
+                }
+                cursor.roomId = roomId;
+                cursor.statDate = statDate;
+            }
+            int pagesRead = Math.max(0, bookPage - cursor.maxBookPage);
+            cursor.maxBookPage = Math.max(cursor.maxBookPage, bookPage);
+            cursor.pagesRead += pagesRead;
+            cursor.recordCount++;
+
+            int[] userTotal = userTotals.computeIfAbsent(new UserDay(userId, statDate), key -> new int[2]);
+            userTotal[0] += pagesRead;
+            userTotal[1]++;
+
+            if (roomBatch.size() >= BACKFILL_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_ROOM_STAT, roomBatch);
+                roomBatch.clear();
+            }
+        });
+        cursor.flushTo(roomBatch);
+        jdbcTemplate.batchUpdate(INSERT_ROOM_STAT, roomBatch);
+
+        List<Object[]> userBatch = new ArrayList<>(BACKFILL_BATCH_SIZE);
+        for (Map.Entry<UserDay, int[]> entry : userTotals.entrySet()) {
+            UserDay key = entry.getKey();
+            int[] total = entry.getValue();
+            userBatch.add(new Object[]{key.userId(), Date.valueOf(key.statDate()), total[0], total[1], total[0], total[1]});
+            if (userBatch.size() >= BACKFILL_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(ADD_USER_STAT, userBatch);
+                userBatch.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate(ADD_USER_STAT, userBatch);
+    }
+
+    private static final RowMapper<BackfillProgress> BACKFILL_PROGRESS_MAPPER = (rs, rowNum) ->
+            new BackfillProgress(rs.getLong(1), rs.getTimestamp(2) != null);
+
+    private record BackfillProgress(long backfilledRoomId, boolean completed) {
+    }
+
+    private record UserDay(long userId, LocalDate statDate) {
+    }
+
+    //room_id, created_at 순으로 읽으므로 방-일 단위 집계는 순서대로 하나씩만 들고 있으면 된다
+    private static final class RoomCursor {
+
+        private long roomId = -1;
+        private LocalDate statDate;
+        private int pagesRead;
+        private int recordCount;
+        private int maxBookPage;
+
+        private void flushTo(List<Object[]> batch) {
+            if (recordCount > 0) {
+                batch.add(new Object[]{roomId, Date.valueOf(statDate), pagesRead, recordCount, maxBookPage});
+            }
+            pagesRead = 0;
+            recordCount = 0;
+        }
+    }
+}
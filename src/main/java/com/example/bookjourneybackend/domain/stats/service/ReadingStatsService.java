@@ -0,0 +1,128 @@
+package com.example.bookjourneybackend.domain.stats.service;
+
+import com.example.bookjourneybackend.domain.room.Room;
+import com.example.bookjourneybackend.domain.room.repository.RoomRepository;
+import com.example.bookjourneybackend.domain.stats.RoomDailyStat;
+import com.example.bookjourneybackend.domain.stats.dto.response.DailyReadingStat;
+import com.example.bookjourneybackend.domain.stats.dto.response.GetRoomReadingStatsResponse;
+import com.example.bookjourneybackend.domain.stats.dto.response.GetUserReadingStatsResponse;
+import com.example.bookjourneybackend.domain.stats.dto.response.WeeklyReadingStat;
+import com.example.bookjourneybackend.domain.stats.repository.RoomDailyStatRepository;
+import com.example.bookjourneybackend.domain.stats.repository.UserDailyStatRepository;
+import com.example.bookjourneybackend.domain.user.repository.UserRepository;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.*;
+
+/**
+ * 일별 집계 행(최대 366개)만 읽어 주간 합계와 연속 기록일을 계산한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReadingStatsService {
+
+    private static final int DEFAULT_DAYS = 365;
+    private static final int MAX_DAYS = 366;
+
+    private final UserDailyStatRepository userDailyStatRepository;
+    private final RoomDailyStatRepository roomDailyStatRepository;
+    private final UserRepository userRepository;
+    private final RoomRepository roomRepository;
+
+    @Transactional(readOnly = true)
+    public GetUserReadingStatsResponse getUserStats(Long userId, LocalDate from, LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_DAYS - 1) : from;
+        validateRange(start, end);
+        if (!userRepository.existsById(userId)) {
+            throw new GlobalException(CANNOT_FOUND_USER);
+        }
+
+        List<DailyReadingStat> days = userDailyStatRepository.findDailyStats(userId, start, end);
+        int[] streaks = streaks(days, end);
+        return new GetUserReadingStatsResponse(start, end,
+                days.stream().mapToInt(DailyReadingStat::pagesRead).sum(),
+                days.stream().mapToInt(DailyReadingStat::recordCount).sum(),
+                streaks[0], streaks[1], weeks(days), days);
+    }
+
+    @Transactional(readOnly = true)
+    public GetRoomReadingStatsResponse getRoomStats(Long roomId, LocalDate from, LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_DAYS - 1) : from;
+        validateRange(start, end);
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new GlobalException(CANNOT_FOUND_ROOM));
+
+        List<DailyReadingStat> days = roomDailyStatRepository.findDailyStats(roomId, start, end);
+        Integer lastBookPage = roomDailyStatRepository.findFirstByRoomIdOrderByStatDateDesc(roomId)
+                .map(RoomDailyStat::getMaxBookPage)
+                .orElse(0);
+        return new GetRoomReadingStatsResponse(roomId, room.getUserPercentage(), lastBookPage, start, end,
+                days.stream().mapToInt(DailyReadingStat::pagesRead).sum(),
+                days.stream().mapToInt(DailyReadingStat::recordCount).sum(),
+                weeks(days), days);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days < 1 || days > MAX_DAYS) {
+            throw new GlobalException(INVALID_DATE_RANGE);
+        }
+    }
+
+    //월요일 시작 주 단위 합계 (일별 행이 날짜 순이므로 한 번 훑으면 된다)
+    private List<WeeklyReadingStat> weeks(List<DailyReadingStat> days) {
+        List<WeeklyReadingStat> weeks = new ArrayList<>();
+        LocalDate weekStart = null;
+        int pages = 0;
+        int records = 0;
+        for (DailyReadingStat day : days) {
+            LocalDate start = day.date().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            if (!start.equals(weekStart)) {
+                if (weekStart != null) {
+                    weeks.add(new WeeklyReadingStat(weekStart, pages, records));
+                }
+                weekStart = start;
+                pages = 0;
+                records = 0;
+            }
+            pages += day.pagesRead();
+            records += day.recordCount();
+        }
+        if (weekStart != null) {
+            weeks.add(new WeeklyReadingStat(weekStart, pages, records));
+        }
+        return weeks;
+    }
+
+    /**
+     * [현재 연속 기록일, 기간 내 최장 연속 기록일].
+     * 마지막 날에 아직 기록이 없어도 전날까지 이어져 있으면 연속으로 본다.
+     */
+    private int[] streaks(List<DailyReadingStat> days, LocalDate end) {
+        int longest = 0;
+        int running = 0;
+        LocalDate previous = null;
+        for (DailyReadingStat day : days) {
+            if (day.recordCount() <= 0) {
+                continue;
+            }
+            running = previous != null && previous.plusDays(1).equals(day.date()) ? running + 1 : 1;
+            longest = Math.max(longest, running);
+            previous = day.date();
+        }
+        boolean ongoing = previous != null && !previous.isBefore(end.minusDays(1));
+        return new int[]{ongoing ? running : 0, longest};
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.bookjourneybackend.domain.user.controller;
+
+import com.example.bookjourneybackend.domain.user.dto.request.PostEmailVerificationCodeRequest;
+import com.example.bookjourneybackend.domain.user.dto.request.PostEmailVerificationRequest;
+import com.example.bookjourneybackend.domain.user.dto.response.PostEmailVerificationCodeResponse;
+import com.example.bookjourneybackend.domain.user.service.EmailVerificationService;
+import com.example.bookjourneybackend.global.response.BaseResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final EmailVerificationService emailVerificationService;
+
+    @PostMapping("/emails/verification-requests")
+    public BaseResponse<Void> sendVerificationCode(@RequestBody PostEmailVerificationRequest request) {
+        emailVerificationService.sendVerificationCode(request.email());
+        return BaseResponse.ok(null);
+    }
+
+    @PostMapping("/emails/verifications")
+    public BaseResponse<PostEmailVerificationCodeResponse> verifyCode(@RequestBody PostEmailVerificationCodeRequest request) {
+        return BaseResponse.ok(emailVerificationService.verifyCode(request.email(), request.code()));
+    }
+}
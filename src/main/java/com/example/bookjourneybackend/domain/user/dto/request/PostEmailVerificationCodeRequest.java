@@ -0,0 +1,7 @@
+package com.example.bookjourneybackend.domain.user.dto.request;
+
+public record PostEmailVerificationCodeRequest(
+        String email,
+        String code
+) {
+}
@@ -0,0 +1,6 @@
+package com.example.bookjourneybackend.domain.user.dto.request;
+
+public record PostEmailVerificationRequest(
+        String email
+) {
+}
@@ -0,0 +1,6 @@
+package com.example.bookjourneybackend.domain.user.dto.response;
+
+public record PostEmailVerificationCodeResponse(
+        boolean verified
+) {
+}
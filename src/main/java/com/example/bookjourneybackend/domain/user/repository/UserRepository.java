@@ -0,0 +1,9 @@
+package com.example.bookjourneybackend.domain.user.repository;
+
+import com.example.bookjourneybackend.domain.user.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserRepository extends JpaRepository<User, Long> {
+
+    boolean existsByEmail(String email);
+}
@@ -0,0 +1,96 @@
+package com.example.bookjourneybackend.domain.user.service;
+
+import com.example.bookjourneybackend.domain.user.dto.response.PostEmailVerificationCodeResponse;
+import com.example.bookjourneybackend.domain.user.repository.UserRepository;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import com.example.bookjourneybackend.global.mail.MailDispatcher;
+import com.example.bookjourneybackend.global.store.ExpiringStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.*;
+
+@Service
+public class EmailVerificationService {
+
+    private static final String AUTH_CODE_KEY_PREFIX = "auth-code:";
+    private static final String ATTEMPT_KEY_PREFIX = "auth-code-attempts:";
+    //6자리 코드를 만료 시간 안에 대입해 맞히지 못하도록 코드 하나당 시도 횟수를 제한한다
+    static final int MAX_ATTEMPTS = 5;
+    private static final String MAIL_SUBJECT = "[책산책] 이메일 인증 코드";
+
+    private final ExpiringStore expiringStore;
+    private final MailDispatcher mailDispatcher;
+    private final UserRepository userRepository;
+    private final String mailFrom;
+    private final Duration authCodeExpiration;
+    private final SecureRandom random = new SecureRandom();
+
+    public EmailVerificationService(ExpiringStore expiringStore,
+                                    MailDispatcher mailDispatcher,
+                                    UserRepository userRepository,
+                                    @Value("${spring.mail.username}") String mailFrom,
+                                    @Value("${spring.mail.auth-code-expiration-millis}") long authCodeExpirationMillis) {
+        this.expiringStore = expiringStore;
+        this.mailDispatcher = mailDispatcher;
+        this.userRepository = userRepository;
+        this.mailFrom = mailFrom;
+        this.authCodeExpiration = Duration.ofMillis(authCodeExpirationMillis);
+    }
+
+    public void sendVerificationCode(String email) {
+        if (email == null || email.isBlank()) {
+            throw new GlobalException(INVALID_EMAIL);
+        }
+        if (userRepository.existsByEmail(email)) {
+            throw new GlobalException(ALREADY_EXIST_EMAIL);
+        }
+
+        String code = String.format("%06d", random.nextInt(1_000_000));
+        if (!expiringStore.put(AUTH_CODE_KEY_PREFIX + email, code, authCodeExpiration)) {
+            throw new GlobalException(TOO_MANY_VERIFICATION_REQUESTS);
+        }
+        expiringStore.remove(ATTEMPT_KEY_PREFIX + email);
+
+        //실제 발송은 MailDispatcher 가 비동기로 처리하고 큐에 넣는 즉시 응답한다
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(mailFrom);
+        message.setTo(email);
+        message.setSubject(MAIL_SUBJECT);
+        message.setText("인증 코드: " + code);
+        if (!mailDispatcher.enqueue(message)) {
+            expiringStore.remove(AUTH_CODE_KEY_PREFIX + email);
+            throw new GlobalException(MAIL_QUEUE_FULL);
+        }
+    }
+
+    public PostEmailVerificationCodeResponse verifyCode(String email, String code) {
+        String key = AUTH_CODE_KEY_PREFIX + email;
+        String attemptKey = ATTEMPT_KEY_PREFIX + email;
+        Optional<String> saved = expiringStore.get(key);
+        if (saved.isEmpty()) {
+            return new PostEmailVerificationCodeResponse(false);
+        }
+
+        //비교 전에 횟수를 올려 동시에 들어온 시도도 각각 한 번으로 센다
+        long attempt = expiringStore.increment(attemptKey, authCodeExpiration);
+        boolean verified = attempt <= MAX_ATTEMPTS && saved.get().equals(code);
+        if (verified) {
+            expiringStore.remove(key);
+            expiringStore.remove(attemptKey);
+            return new PostEmailVerificationCodeResponse(true);
+        }
+        if (attempt >= MAX_ATTEMPTS) {
+            //코드를 지우고 새 코드를 요청하게 한다
+            expiringStore.remove(key);
+            expiringStore.remove(attemptKey);
+            throw new GlobalException(TOO_MANY_VERIFICATION_ATTEMPTS);
+        }
+        return new PostEmailVerificationCodeResponse(false);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.bookjourneybackend.global.archive;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아카이브 대상 테이블. 외래키가 깨지지 않도록 자식 테이블부터 선언 순서대로 옮기며,
+ * 부모가 DELETED/EXPIRED 인 자식 행은 상태와 무관하게 함께 옮긴다.
+ */
+@Getter
+@RequiredArgsConstructor
+enum ArchiveTarget {
+
+    COMMENT_LIKES("comment_likes", "comment_like_id",
+            "comment_like_id, comment_id, user_id, created_at, modified_at, status",
+            "status in " + ArchiveTarget.DEAD +
+                    " or comment_id in (select c.comment_id from comments c where c.status in " + ArchiveTarget.DEAD + ")" +
+                    " or comment_id in (select c.comment_id from comments c join records r on r.record_id = c.record_id" +
+                    " where r.status in " + ArchiveTarget.DEAD + ")"),
+
+    COMMENTS("comments", "comment_id",
+            "comment_id, record_id, content, like_count, created_at, modified_at, status",
+            "status in " + ArchiveTarget.DEAD +
+                    " or record_id in (select r.record_id from records r where r.status in " + ArchiveTarget.DEAD + ")"),
+
+    RECORD_LIKES("record_likes", "record_like_id",
+            "record_like_id, record_id, user_id, created_at, modified_at, status",
+            "status in " + ArchiveTarget.DEAD +
+                    " or record_id in (select r.record_id from records r where r.status in " + ArchiveTarget.DEAD + ")"),
+
+    RECORDS("records", "record_id",
+            "record_id, room_id, user_id, book_page, content, like_count, created_at, modified_at, status",
+            "status in " + ArchiveTarget.DEAD),
+
+    RECENT_SEARCH("recent_search", "recent_search_id",
+            "recent_search_id, user_id, recent_search, created_at, modified_at, status",
+            "status in " + ArchiveTarget.DEAD);
+
+    static final String DEAD = "('DELETED', 'EXPIRED')";
+
+    private final String table;
+    private final String idColumn;
+    private final String columns;
+    private final String archivableCondition;
+
+    String archiveTable() {
+        return table + "_archive";
+    }
+}
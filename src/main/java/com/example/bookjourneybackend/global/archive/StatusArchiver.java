@@ -0,0 +1,116 @@
+package com.example.bookjourneybackend.global.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DELETED/EXPIRED 행을 hot 테이블에서 <table>_archive 로 옮기는 작업.
+ * 배치 하나(select id -> insert select -> delete)를 짧은 트랜잭션으로 처리하고
+ * 배치 사이에 쉬어 운영 트래픽과 락/IO 를 다투지 않게 한다.
+ */
+@Slf4j
+@Component
+public class StatusArchiver implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int maxBatchesPerRun;
+
+    public StatusArchiver(JdbcTemplate jdbcTemplate,
+                          NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${archive.batch-size}") int batchSize,
+                          @Value("${archive.pause-millis}") long pauseMillis,
+                          @Value("${archive.max-batches-per-run}") int maxBatchesPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    //아카이브 테이블은 원본 컬럼 + archived_at 만 갖는다 (인덱스/외래키 없음)
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (ArchiveTarget target : ArchiveTarget.values()) {
+            jdbcTemplate.execute("create table if not exists " + target.archiveTable() +
+                    " as select " + target.getColumns() + ", current_timestamp as archived_at" +
+                    " from " + target.getTable() + " where 1 = 0");
+        }
+    }
+
+    @Scheduled(cron = "${archive.cron}")
+    public void archive() {
+        int batches = 0;
+        for (ArchiveTarget target : ArchiveTarget.values()) {
+            long moved = 0;
+            while (batches < maxBatchesPerRun) {
+                int count = archiveBatch(target);
+                if (count == 0) {
+                    break;
+                }
+                moved += count;
+                batches++;
+                if (!pause()) {
+                    return;
+                }
+            }
+            if (moved > 0) {
+                log.info("[StatusArchiver] {} -> {} : {} rows", target.getTable(), target.archiveTable(), moved);
+            }
+        }
+        if (batches >= maxBatchesPerRun) {
+            log.info("[StatusArchiver] 한 번에 처리할 배치 수({})에 도달해 다음 실행으로 넘김", maxBatchesPerRun);
+        }
+    }
+
+    int archiveBatch(ArchiveTarget target) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "select " + target.getIdColumn() + " from " + target.getTable() +
+                            " where " + target.getArchivableCondition() +
+                            " order by " + target.getIdColumn() + " limit " + batchSize,
+                    Long.class);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("ids", ids)
+                    .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+            namedParameterJdbcTemplate.update(
+                    "insert into " + target.archiveTable() + " (" + target.getColumns() + ", archived_at)" +
+                            " select " + target.getColumns() + ", :archivedAt from " + target.getTable() +
+                            " where " + target.getIdColumn() + " in (:ids)", params);
+            return namedParameterJdbcTemplate.update(
+                    "delete from " + target.getTable() + " where " + target.getIdColumn() + " in (:ids)", params);
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.bookjourneybackend.global.archive;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 인덱스 앞에 status 를 붙이면서 쓰이지 않게 된 예전 인덱스를 지운다 (ddl-auto=update 는 인덱스를 지우지 않는다).
+ * 인덱스 메타데이터로 남아 있는 경우에만 지우므로 매 기동 시 실행해도 된다.
+ * 예전 인덱스가 외래키 컬럼으로 시작하는 유일한 인덱스면 MySQL 이 삭제를 거부하므로 외래키용 인덱스를 먼저 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SupersededIndexMigration implements SmartInitializingSingleton {
+
+    static final List<SupersededIndex> SUPERSEDED = List.of(
+            new SupersededIndex("records", "idx_records_room_page_id", "room_id", "idx_records_room_id"),
+            new SupersededIndex("comments", "idx_comments_record_id", "record_id", "idx_comments_record"),
+            new SupersededIndex("recent_search", "idx_recent_search_user_modified", "user_id", "idx_recent_search_user"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (SupersededIndex index : SUPERSEDED) {
+            try {
+                drop(index);
+            } catch (DataAccessException e) {
+                log.warn("[SupersededIndexMigration] failed to drop {}.{}", index.table(), index.name(), e);
+            }
+        }
+    }
+
+    private void drop(SupersededIndex index) {
+        Map<String, String> leadingColumns = leadingColumns(index.table());
+        if (!leadingColumns.containsKey(index.name())) {
+            return;
+        }
+        boolean foreignKeyCovered = leadingColumns.entrySet().stream()
+                .anyMatch(entry -> !entry.getKey().equalsIgnoreCase(index.name())
+                        && entry.getValue().equalsIgnoreCase(index.foreignKeyColumn()));
+        if (!foreignKeyCovered) {
+            jdbcTemplate.execute("create index " + index.foreignKeyIndex() +
+                    " on " + index.table() + " (" + index.foreignKeyColumn() + ")");
+        }
+        jdbcTemplate.execute("drop index " + index.name() + " on " + index.table());
+        log.info("[SupersededIndexMigration] dropped {}.{}", index.table(), index.name());
+    }
+
+    //인덱스 이름 -> 첫 번째 컬럼
+    private Map<String, String> leadingColumns(String table) {
+        return jdbcTemplate.execute((ConnectionCallback<Map<String, String>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String storedTable = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase() : table;
+            Map<String, String> columns = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, storedTable, false, false)) {
+                while (rs.next()) {
+                    if (rs.getShort("ORDINAL_POSITION") == 1 && rs.getString("INDEX_NAME") != null) {
+                        columns.put(rs.getString("INDEX_NAME"), rs.getString("COLUMN_NAME"));
+                    }
+                }
+            }
+            return columns;
+        });
+    }
+
+    //table, name 등은 상수로만 만든다
+    record SupersededIndex(String table, String name, String foreignKeyColumn, String foreignKeyIndex) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.bookjourneybackend.global.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청한 유저의 id. CurrentUserIdArgumentResolver 가 채운다.
+ * required = false 면 식별되지 않은 요청에 null 을 넘긴다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUserId {
+
+    boolean required() default true;
+}
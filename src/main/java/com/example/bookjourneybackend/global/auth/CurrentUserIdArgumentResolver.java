@@ -0,0 +1,58 @@
+package com.example.bookjourneybackend.global.auth;
+
+import com.example.bookjourneybackend.domain.user.repository.UserRepository;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.CANNOT_FOUND_USER;
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.UNAUTHORIZED;
+
+/**
+ * @CurrentUserId 파라미터에 요청한 유저의 id 를 넣는다.
+ * 인증이 아직 없어 userId 요청 파라미터를 그대로 쓰고 존재하는 유저인지만 확인한다.
+ * 토큰 인증이 붙으면 컨트롤러는 그대로 두고 이 클래스에서만 꺼내는 곳을 바꾼다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final String USER_ID_PARAMETER = "userId";
+
+    private final UserRepository userRepository;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUserId.class)
+                && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Long resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        boolean required = parameter.getParameterAnnotation(CurrentUserId.class).required();
+        String value = webRequest.getParameter(USER_ID_PARAMETER);
+        if (value == null || value.isBlank()) {
+            if (required) {
+                throw new GlobalException(UNAUTHORIZED);
+            }
+            return null;
+        }
+
+        long userId;
+        try {
+            userId = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new GlobalException(UNAUTHORIZED);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new GlobalException(CANNOT_FOUND_USER);
+        }
+        return userId;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.bookjourneybackend.global.config;
+
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.FORBIDDEN;
+
+/**
+ * /admin/** 요청은 X-Admin-Token 헤더가 admin.api-token 과 같을 때만 통과시킨다.
+ * 토큰을 설정하지 않은 환경에서는 관리자 API 를 모두 막는다. 인증이 붙으면 권한 검사로 바꾼다.
+ */
+public class AdminTokenInterceptor implements HandlerInterceptor {
+
+    static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final byte[] token;
+
+    public AdminTokenInterceptor(String token) {
+        this.token = token == null ? new byte[0] : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String provided = request.getHeader(ADMIN_TOKEN_HEADER);
+        //길이 외의 정보가 응답 시간으로 새지 않도록 고정 시간 비교
+        if (token.length == 0 || provided == null
+                || !MessageDigest.isEqual(token, provided.getBytes(StandardCharsets.UTF_8))) {
+            throw new GlobalException(FORBIDDEN);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.bookjourneybackend.global.config;
+
+import com.example.bookjourneybackend.global.entity.IdSequences;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IDENTITY 로 쌓인 기존 데이터가 있는 DB 에서 pooled generator 가 이미 사용된 id 를 다시 발급하지 않도록
+ * 기동 시 id_sequences 의 값을 각 테이블의 max(id) + ALLOCATION_SIZE 보다 크게 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    //sequence_name(테이블명) -> id 컬럼
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "records", "record_id",
+            "comments", "comment_id",
+            "record_likes", "record_like_id",
+            "comment_likes", "comment_like_id",
+            "books", "book_id",
+            "book_image", "book_image_id",
+            "best_seller", "best_seller_id"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCES.forEach(this::alignSequence);
+    }
+
+    private void alignSequence(String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(" + idColumn + "), 0) from " + table, Long.class);
+        long floor = maxId + IdSequences.ALLOCATION_SIZE + 1;
+
+        List<Long> current = jdbcTemplate.queryForList(
+                "select " + IdSequences.VALUE_COLUMN + " from " + IdSequences.TABLE +
+                        " where " + IdSequences.PK_COLUMN + " = ?", Long.class, table);
+        if (current.isEmpty()) {
+            jdbcTemplate.update("insert into " + IdSequences.TABLE +
+                    " (" + IdSequences.PK_COLUMN + ", " + IdSequences.VALUE_COLUMN + ") values (?, ?)", table, floor);
+        } else if (current.get(0) < floor) {
+            jdbcTemplate.update("update " + IdSequences.TABLE + " set " + IdSequences.VALUE_COLUMN + " = ?" +
+                    " where " + IdSequences.PK_COLUMN + " = ?", floor, table);
+        } else {
+            return;
+        }
+        log.info("[IdSequenceInitializer] {} sequence aligned to {}", table, floor);
+    }
+}
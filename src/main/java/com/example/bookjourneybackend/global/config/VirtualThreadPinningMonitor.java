@@ -0,0 +1,75 @@
+package com.example.bookjourneybackend.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * virtual thread 가 synchronized 블록/네이티브 호출 안에서 블로킹되어 carrier thread 에 고정(pinning)되면
+ * 그동안 다른 virtual thread 가 그 carrier 를 쓰지 못한다. JFR jdk.VirtualThreadPinned 이벤트를 구독해 위치를 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Counter pinned;
+    private final long thresholdMillis;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-threads.pinned-threshold-millis}") long thresholdMillis) {
+        this.pinned = Counter.builder("jvm.threads.virtual.pinned")
+                .description("virtual threads pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        log.warn("[VirtualThreadPinningMonitor] virtual thread pinned for {} ms\n{}",
+                event.getDuration().toMillis(), topFrames(event));
+    }
+
+    private String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "\t(no stack trace)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.bookjourneybackend.global.config;
+
+import com.example.bookjourneybackend.global.auth.CurrentUserIdArgumentResolver;
+import com.example.bookjourneybackend.global.response.StreamingTimeoutInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final String adminToken;
+    private final CurrentUserIdArgumentResolver currentUserIdArgumentResolver;
+
+    public WebConfig(@Value("${admin.api-token}") String adminToken,
+                     CurrentUserIdArgumentResolver currentUserIdArgumentResolver) {
+        this.adminToken = adminToken;
+        this.currentUserIdArgumentResolver = currentUserIdArgumentResolver;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdminTokenInterceptor(adminToken))
+                .addPathPatterns("/admin/**");
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserIdArgumentResolver);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new StreamingTimeoutInterceptor());
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.bookjourneybackend.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 분리 (datasource-routing.enabled 인 프로필만). primary 는 spring.datasource, 복제본은 datasource-routing.replicas 로 설정하고
+ * 두 쪽 모두 spring.datasource.hikari 풀 설정을 따른다. 복제본 username/password 를 비우면 primary 값을 쓴다.
+ * 풀을 빈으로 등록하지 않으므로 hikaricp.* 메트릭은 여기서 직접 연결한다 (pool 태그: primary, replica-N).
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource-routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final String REPLICAS_PREFIX = "datasource-routing.replicas";
+
+    //빈이 아닌 풀은 컨테이너가 닫아 주지 않으므로 직접 닫는다
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public ReplicaPool replicaPool(Environment environment, DataSourceProperties properties, MeterRegistry meterRegistry,
+                                   @Value("${datasource-routing.replica-connection-timeout-millis}") long connectionTimeoutMillis) {
+        List<ReplicaProperties> replicas = Binder.get(environment)
+                .bind(REPLICAS_PREFIX, Bindable.listOf(ReplicaProperties.class))
+                .orElse(List.of());
+
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaProperties replica = replicas.get(i);
+            String name = "replica-" + i;
+            //호스트가 비어 있으면 localhost 로 붙어 매 읽기가 연결 타임아웃을 기다리므로 기동 시 막는다
+            if (!hasHost(replica.url())) {
+                throw new IllegalStateException(REPLICAS_PREFIX + "[" + i + "].url has no host: " + replica.url());
+            }
+            HikariDataSource dataSource = pool(environment, properties, meterRegistry, name, replica.url(),
+                    replica.username() == null ? properties.determineUsername() : replica.username(),
+                    replica.password() == null ? properties.determinePassword() : replica.password());
+            //죽은 복제본에서 커넥션을 기다리느라 읽기가 묶이지 않도록 짧게 두고 primary 로 넘긴다
+            dataSource.setConnectionTimeout(connectionTimeoutMillis);
+            dataSource.setReadOnly(true);
+            dataSources.put(name, dataSource);
+        }
+
+        ReplicaPool replicaPool = new ReplicaPool(dataSources);
+        Gauge.builder("datasource.replicas.healthy", replicaPool, ReplicaPool::healthyCount)
+                .description("replicas currently serving read-only transactions")
+                .register(meterRegistry);
+        return replicaPool;
+    }
+
+    @Bean
+    public DataSource dataSource(Environment environment, DataSourceProperties properties, MeterRegistry meterRegistry,
+                                 ReplicaPool replicaPool) {
+        HikariDataSource primary = pool(environment, properties, meterRegistry, "primary", properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword());
+        return new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(primary, replicaPool));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${datasource-routing.sticky-millis}") long stickyMillis) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(stickyMillis));
+        //다른 필터에서 실행되는 쿼리도 라우팅되도록 바깥쪽에 둔다
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource pool(Environment environment, DataSourceProperties properties, MeterRegistry meterRegistry,
+                                  String name, String url, String username, String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(name);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        pools.add(dataSource);
+        return dataSource;
+    }
+
+    //jdbc:mysql://host:3306/db 형태에서 host 가 있는지 (치환되지 않은 ${...} 도 실패)
+    //jdbc:h2:mem:... 처럼 네트워크 주소가 없는 내장 DB 는 통과 (테스트에서 primary 와 같은 DB 를 복제본으로 쓴다)
+    private static boolean hasHost(String url) {
+        if (url == null || !url.startsWith("jdbc:")) {
+            return false;
+        }
+        if (!url.contains("//") && !url.contains("${")) {
+            return true;
+        }
+        try {
+            String host = URI.create(url.substring("jdbc:".length())).getHost();
+            return host != null && !host.isBlank();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public record ReplicaProperties(String url, String username, String password) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.bookjourneybackend.global.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.util.WebUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 트랜잭션이 있었던 요청 이후 sticky-millis 동안은 같은 사용자의 읽기도 primary 에서 한다 (복제 지연으로 방금 쓴 값이 안 보이는 것 방지).
+ * 인증이 아직 없어 사용자는 쿠키로 구분한다. 쿠키 값은 primary 에서 읽을 시각의 상한(epoch millis)이라 서버 간에 공유하지 않아도 된다.
+ * 요청 스레드에서만 열리므로 스케줄러/비동기 작업은 영향을 받지 않는다.
+ */
+final class ReadYourWrites implements AutoCloseable {
+
+    static final String COOKIE_NAME = "primary-read-until";
+
+    private static final ThreadLocal<ReadYourWrites> CURRENT = new ThreadLocal<>();
+
+    private final HttpServletResponse response;
+    private final long stickyMillis;
+    private long primaryUntil;
+    private boolean cookieWritten;
+
+    private ReadYourWrites(HttpServletResponse response, long stickyMillis, long primaryUntil) {
+        this.response = response;
+        this.stickyMillis = stickyMillis;
+        this.primaryUntil = primaryUntil;
+    }
+
+    static ReadYourWrites open(HttpServletRequest request, HttpServletResponse response, long stickyMillis) {
+        //서버가 준 값은 발급 시각 + sticky-millis 를 넘지 않으므로, 그보다 먼 값은 조작된 것으로 보고 무시한다
+        long primaryUntil = parseCookie(request);
+        if (primaryUntil > System.currentTimeMillis() + stickyMillis) {
+            primaryUntil = 0;
+        }
+        ReadYourWrites context = new ReadYourWrites(response, stickyMillis, primaryUntil);
+        CURRENT.set(context);
+        return context;
+    }
+
+    static boolean readsFromPrimary() {
+        ReadYourWrites context = CURRENT.get();
+        return context != null && System.currentTimeMillis() < context.primaryUntil;
+    }
+
+    static void markWrite() {
+        ReadYourWrites context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        context.primaryUntil = System.currentTimeMillis() + context.stickyMillis;
+        //쓰기는 본문을 쓰기 전에 끝나므로 헤더를 붙일 수 있다. 한 요청에서 여러 번 써도 쿠키는 한 번만 보낸다
+        if (!context.cookieWritten && !context.response.isCommitted()) {
+            context.cookieWritten = true;
+            Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(context.primaryUntil));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) TimeUnit.MILLISECONDS.toSeconds(context.stickyMillis + 999));
+            context.response.addCookie(cookie);
+        }
+    }
+
+    private static long parseCookie(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        if (cookie == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public void close() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.bookjourneybackend.global.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 ReadYourWrites 를 열어 쓰기 직후의 읽기를 primary 로 보낸다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final long stickyMillis;
+
+    public ReadYourWritesFilter(long stickyMillis) {
+        this.stickyMillis = stickyMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (ReadYourWrites ignored = ReadYourWrites.open(request, response, stickyMillis)) {
+            filterChain.doFilter(request, response);
+        }
+    }
+}
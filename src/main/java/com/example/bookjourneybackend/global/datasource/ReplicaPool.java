@@ -0,0 +1,91 @@
+package com.example.bookjourneybackend.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 복제본 목록. 건강한 복제본을 돌아가며 내주고,
+ * 주기적인 연결 확인이나 커넥션 획득에 실패한 복제본은 빼 두었다가 확인에 성공하면 다시 넣는다.
+ */
+@Slf4j
+public class ReplicaPool {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaPool(Map<String, DataSource> replicas) {
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+    }
+
+    //건강한 복제본이 없으면 null
+    Replica next() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy.get()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    void markDown(Replica replica, Exception cause) {
+        if (replica.healthy.compareAndSet(true, false)) {
+            log.warn("[ReplicaPool] replica {} is down, reads fall back to other replicas or primary: {}",
+                    replica.name, cause.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource-routing.health-check-interval-millis}",
+            initialDelayString = "${datasource-routing.health-check-interval-millis}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("connection is not valid");
+                }
+            } catch (SQLException e) {
+                markDown(replica, e);
+                continue;
+            }
+            if (replica.healthy.compareAndSet(false, true)) {
+                log.info("[ReplicaPool] replica {} is back", replica.name);
+            }
+        }
+    }
+
+    public int healthyCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy.get()).count();
+    }
+
+    static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicBoolean healthy = new AtomicBoolean(true);
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        DataSource dataSource() {
+            return dataSource;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.bookjourneybackend.global.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * readOnly 트랜잭션은 복제본으로, 나머지(쓰기 트랜잭션, 트랜잭션 밖 JDBC 호출)는 primary 로 보낸다.
+ * 트랜잭션 시작 시점엔 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 때 고르게 해야 한다.
+ * 쓰기 직후의 읽기(ReadYourWrites)와 건강한 복제본이 없을 때는 primary 에서 읽는다.
+ */
+public class ReplicationRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final ReplicaPool replicaPool;
+
+    public ReplicationRoutingDataSource(DataSource primary, ReplicaPool replicaPool) {
+        this.primary = primary;
+        this.replicaPool = replicaPool;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWrites.markWrite();
+            }
+            return primary.getConnection();
+        }
+        if (ReadYourWrites.readsFromPrimary()) {
+            return primary.getConnection();
+        }
+        //실패한 복제본은 빠지므로 복제본 수만큼만 돈다
+        for (ReplicaPool.Replica replica = replicaPool.next(); replica != null; replica = replicaPool.next()) {
+            try {
+                return replica.dataSource().getConnection();
+            } catch (SQLException e) {
+                replicaPool.markDown(replica, e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+}
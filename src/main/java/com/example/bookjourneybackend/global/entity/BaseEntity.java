@@ -19,6 +19,9 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
+    //hot 테이블 엔티티에 @SQLRestriction 으로 붙이는 활성 행 조건 (DELETED/EXPIRED 는 StatusArchiver 가 옮긴다)
+    public static final String ACTIVE_ONLY = "status = 'ACTIVE'";
+
     @CreatedDate
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     @JsonSerialize(using = LocalDateSerializer.class)
@@ -37,4 +40,15 @@ public abstract class BaseEntity {
     @Column(nullable = false, length = 50)
     @ColumnDefault("'ACTIVE'")
     private EntityStatus status;
+
+    @PrePersist
+    protected void prePersist() {
+        if (status == null) {
+            status = EntityStatus.ACTIVE;
+        }
+    }
+
+    protected void updateStatus(EntityStatus status) {
+        this.status = status;
+    }
 }
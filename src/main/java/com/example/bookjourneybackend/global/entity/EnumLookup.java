@@ -0,0 +1,27 @@
+package com.example.bookjourneybackend.global.entity;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 표시 값으로 enum 상수를 찾는 조회용 맵. values() 를 매번 순회하지 않도록 enum 초기화 때 한 번 만든다.
+ * 없는 값(null 포함)은 null 을 돌려준다.
+ */
+final class EnumLookup<E extends Enum<E>> {
+
+    private final Map<String, E> byKey;
+
+    EnumLookup(E[] values, Function<E, String> key) {
+        Map<String, E> map = new HashMap<>();
+        for (E value : values) {
+            map.put(key.apply(value), value);
+        }
+        this.byKey = Collections.unmodifiableMap(map);
+    }
+
+    E get(String key) {
+        return byKey.get(key);
+    }
+}
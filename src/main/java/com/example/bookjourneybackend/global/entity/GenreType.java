@@ -24,16 +24,13 @@ public enum GenreType {
 
     private String genreType;
 
+    private static final EnumLookup<GenreType> BY_GENRE_TYPE = new EnumLookup<>(values(), GenreType::getGenreType);
+
     GenreType(String genreType) {
         this.genreType = genreType;
     }
 
     public static GenreType getGenreType(String genreType) {
-        for (GenreType genre : GenreType.values()) {
-            if (genre.getGenreType().equals(genreType)) {
-                return genre;
-            }
-        }
-        return null;
+        return BY_GENRE_TYPE.get(genreType);
     }
 }
@@ -0,0 +1,17 @@
+package com.example.bookjourneybackend.global.entity;
+
+/**
+ * 대량 insert 가 발생하는 엔티티의 pooled table generator 설정.
+ * IDENTITY 는 insert 마다 생성된 키를 받아와야 해서 Hibernate JDBC 배치가 꺼지므로,
+ * id_sequences 테이블에서 ALLOCATION_SIZE 만큼 미리 할당받아 배치 insert 가 가능하도록 한다.
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.bookjourneybackend.global.entity;
+
+import lombok.Getter;
+
+@Getter
+public enum RoomTogetherPhase {
+
+    RECRUITING("모집중"), RECRUIT_CLOSED("모집마감"), PROGRESSING("진행중"), FINISHED("종료");
+
+    private String phase;
+
+    RoomTogetherPhase(String phase) {
+        this.phase = phase;
+    }
+}
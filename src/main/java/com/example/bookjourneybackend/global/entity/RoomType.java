@@ -9,19 +9,16 @@ public enum RoomType {
 
     private String type;
 
+    private static final EnumLookup<RoomType> BY_TYPE = new EnumLookup<>(values(), RoomType::getType);
+
     RoomType(String type) {
         this.type = type;
     }
 
     public static RoomType from(String type) {
-        for (RoomType postType : RoomType.values()) {
-            if (postType.getType().equals(type)) {
-                return postType;
-            }
-        }
         //TODO 예외 엔티티 작성
         //throw new CustomException(ErrorCode.NO_SUCH_TYPE);
-        return null;
+        return BY_TYPE.get(type);
     }
 
 }
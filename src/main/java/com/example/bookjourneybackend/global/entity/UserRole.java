@@ -9,19 +9,16 @@ public enum UserRole {
 
     private String type;
 
+    private static final EnumLookup<UserRole> BY_TYPE = new EnumLookup<>(values(), UserRole::getType);
+
     UserRole(String type) {
         this.type = type;
     }
 
     public static UserRole from(String type) {
-        for (UserRole postType : UserRole.values()) {
-            if (postType.getType().equals(type)) {
-                return postType;
-            }
-        }
         //TODO 예외 엔티티 작성
         //throw new CustomException(ErrorCode.NO_SUCH_TYPE);
-        return null;
+        return BY_TYPE.get(type);
     }
 
 
@@ -0,0 +1,21 @@
+package com.example.bookjourneybackend.global.exception;
+
+import com.example.bookjourneybackend.global.response.BaseErrorResponse;
+import com.example.bookjourneybackend.global.response.status.ResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(GlobalException.class)
+    public ResponseEntity<BaseErrorResponse> handleGlobalException(GlobalException e) {
+        ResponseStatus status = e.getExceptionStatus();
+        log.info("[GlobalException] {}", status.getMessage());
+        return ResponseEntity.status(status.getStatus())
+                .body(new BaseErrorResponse(status.getStatus(), status.getMessage()));
+    }
+}
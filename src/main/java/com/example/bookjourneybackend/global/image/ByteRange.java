@@ -0,0 +1,46 @@
+package com.example.bookjourneybackend.global.image;
+
+//단일 Range 요청 (bytes=start-end), end 포함
+record ByteRange(long start, long end) {
+
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Range 헤더가 없거나 여러 구간을 요청하면 null (전체 전송),
+     * 파일 범위를 벗어나면 UNSATISFIABLE
+     */
+    static ByteRange parse(String header, long fileLength) {
+        if (header == null || !header.startsWith("bytes=") || header.contains(",")) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String startPart = spec.substring(0, dash).trim();
+            String endPart = spec.substring(dash + 1).trim();
+            if (startPart.isEmpty()) {
+                //bytes=-500 : 마지막 500 바이트
+                long suffix = Long.parseLong(endPart);
+                if (suffix <= 0) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, fileLength - suffix), fileLength - 1);
+            }
+            long start = Long.parseLong(startPart);
+            long end = endPart.isEmpty() ? fileLength - 1 : Math.min(Long.parseLong(endPart), fileLength - 1);
+            if (start >= fileLength || start > end) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
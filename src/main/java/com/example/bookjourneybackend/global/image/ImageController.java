@@ -0,0 +1,154 @@
+package com.example.bookjourneybackend.global.image;
+
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import com.example.bookjourneybackend.global.response.BaseResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.CANNOT_FOUND_IMAGE;
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.INVALID_IMAGE;
+
+/**
+ * 이미지 업로드와 서빙.
+ * 본문은 힙으로 복사하지 않고 Tomcat sendfile 또는 FileChannel.transferTo 로 바로 소켓에 쓴다.
+ */
+@RestController
+@RequestMapping("/images")
+@RequiredArgsConstructor
+public class ImageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final ImageStore imageStore;
+
+    @PostMapping
+    public BaseResponse<StoredImage> uploadImage(@RequestParam("image") MultipartFile image) throws IOException {
+        if (image.isEmpty() || image.getContentType() == null || !image.getContentType().startsWith("image/")) {
+            throw new GlobalException(INVALID_IMAGE);
+        }
+        try (InputStream in = image.getInputStream()) {
+            return BaseResponse.ok(imageStore.store(in));
+        }
+    }
+
+    @GetMapping("/{hash}")
+    public void getImage(@PathVariable String hash,
+                         @RequestParam(required = false) Integer width,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        Path original = imageStore.findOriginal(hash)
+                .orElseThrow(() -> new GlobalException(CANNOT_FOUND_IMAGE));
+
+        Path file = original;
+        String etag = "\"" + hash + "\"";
+        if (width != null && width > 0) {
+            int bucket = imageStore.thumbnailBucket(width);
+            //썸네일을 만들 수 없으면 원본을 원본의 ETag 로 보낸다
+            Optional<Path> thumbnail = imageStore.thumbnail(hash, original, bucket);
+            if (thumbnail.isPresent()) {
+                file = thumbnail.get();
+                etag = "\"" + hash + "-w" + bucket + "\"";
+            }
+        }
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long fileLength = Files.size(file);
+        ByteRange range = null;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null || ifRange.equals(etag)) {
+            range = ByteRange.parse(request.getHeader(HttpHeaders.RANGE), fileLength);
+        }
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileLength);
+            return;
+        }
+
+        long start = 0;
+        long length = fileLength;
+        if (range != null) {
+            start = range.start();
+            length = range.length();
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + fileLength);
+        }
+        response.setContentType(contentType(file));
+        response.setContentLengthLong(length);
+
+        if (!"HEAD".equals(request.getMethod())) {
+            writeBody(file, start, length, request, response);
+        }
+    }
+
+    private void writeBody(Path file, long start, long length,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            //Tomcat NIO 커넥터가 응답 이후 sendfile 로 파일을 직접 전송
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    //저장 파일에는 확장자가 없으므로 앞부분 시그니처로 판별
+    private String contentType(Path file) throws IOException {
+        byte[] header = new byte[12];
+        int read;
+        try (InputStream in = Files.newInputStream(file)) {
+            read = in.readNBytes(header, 0, header.length);
+        }
+        if (read >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8) {
+            return "image/jpeg";
+        }
+        if (read >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G') {
+            return "image/png";
+        }
+        if (read >= 6 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F') {
+            return "image/gif";
+        }
+        if (read >= 12 && header[0] == 'R' && header[1] == 'I' && header[8] == 'W' && header[9] == 'E') {
+            return "image/webp";
+        }
+        return "application/octet-stream";
+    }
+}
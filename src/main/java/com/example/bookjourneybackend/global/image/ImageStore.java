@@ -0,0 +1,225 @@
+package com.example.bookjourneybackend.global.image;
+
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.IMAGE_TOO_LARGE;
+
+/**
+ * 내용의 SHA-256 을 파일명으로 쓰는 디스크 이미지 저장소.
+ * 같은 내용은 한 번만 저장되고, 파일은 한 번 쓰이면 바뀌지 않으므로 강한 ETag 와 긴 캐시를 줄 수 있다.
+ * 썸네일은 크기 구간별로 처음 요청될 때 한 번만 만들어 디스크에 둔다.
+ * 작은 파일이 거대한 해상도로 풀리는 이미지(decompression bomb)를 막기 위해 디코딩 전에 헤더의 크기를 확인한다.
+ */
+@Slf4j
+@Component
+public class ImageStore {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int[] THUMBNAIL_WIDTHS = {128, 256, 512, 1024};
+    //디코딩하면 픽셀당 4바이트이므로 최대 약 100MB
+    private static final long MAX_PIXELS = 25_000_000L;
+    private static final int MAX_DIMENSION = 10_000;
+
+    private final Path root;
+    private final Path originals;
+    private final Path thumbnails;
+    private final Path temp;
+    //락 안에서 파일을 읽고 쓰므로 synchronized 대신 ReentrantLock (virtual thread 가 carrier 에 고정되지 않게)
+    private final ConcurrentHashMap<String, ReentrantLock> thumbnailLocks = new ConcurrentHashMap<>();
+
+    public ImageStore(@Value("${image-store.root}") String root) throws IOException {
+        this.root = Path.of(root).toAbsolutePath();
+        this.originals = Files.createDirectories(this.root.resolve("originals"));
+        this.thumbnails = Files.createDirectories(this.root.resolve("thumbnails"));
+        this.temp = Files.createDirectories(this.root.resolve("tmp"));
+    }
+
+    public StoredImage store(InputStream inputStream) throws IOException {
+        Path upload = Files.createTempFile(temp, "upload-", ".tmp");
+        MessageDigest digest = sha256();
+        long size;
+        try (DigestInputStream in = new DigestInputStream(inputStream, digest);
+             OutputStream out = Files.newOutputStream(upload)) {
+            size = in.transferTo(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(upload);
+            throw e;
+        }
+        //ImageIO 가 읽지 못하는 형식은 서버에서 디코딩하지 않으므로 그대로 받는다
+        if (withReader(upload, ImageStore::exceedsLimit).orElse(false)) {
+            Files.delete(upload);
+            throw new GlobalException(IMAGE_TOO_LARGE);
+        }
+
+        String hash = HexFormat.of().formatHex(digest.digest());
+        Path target = originalPath(hash);
+        if (Files.exists(target)) {
+            //이미 같은 내용이 저장되어 있음
+            Files.delete(upload);
+        } else {
+            moveAtomically(upload, target);
+        }
+        return new StoredImage(hash, size, root.relativize(target).toString());
+    }
+
+    public Optional<Path> findOriginal(String hash) {
+        if (!HASH_PATTERN.matcher(hash).matches()) {
+            return Optional.empty();
+        }
+        Path path = originalPath(hash);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    //요청한 너비 이상인 가장 작은 구간 (최대 1024)
+    public int thumbnailBucket(int width) {
+        for (int bucket : THUMBNAIL_WIDTHS) {
+            if (width <= bucket) {
+                return bucket;
+            }
+        }
+        return THUMBNAIL_WIDTHS[THUMBNAIL_WIDTHS.length - 1];
+    }
+
+    /**
+     * bucket 너비의 JPEG 썸네일. 디코딩할 수 없는 형식이거나 크기 제한을 넘으면 empty (원본을 서빙한다).
+     */
+    public Optional<Path> thumbnail(String hash, Path original, int bucket) throws IOException {
+        Path thumbnail = thumbnails.resolve(hash.substring(0, 2)).resolve(hash + "_" + bucket + ".jpg");
+        if (Files.exists(thumbnail)) {
+            return Optional.of(thumbnail);
+        }
+
+        String key = hash + "_" + bucket;
+        ReentrantLock lock = thumbnailLocks.computeIfAbsent(key, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            if (Files.exists(thumbnail)) {
+                return Optional.of(thumbnail);
+            }
+            Optional<BufferedImage> decoded = withReader(original, reader -> {
+                if (exceedsLimit(reader)) {
+                    //제한 도입 전에 올라온 이미지
+                    log.warn("[ImageStore] skip thumbnail of {}: {}x{} exceeds the pixel limit",
+                            hash, reader.getWidth(0), reader.getHeight(0));
+                    return null;
+                }
+                return reader.read(0);
+            });
+            if (decoded.isEmpty()) {
+                return Optional.empty();
+            }
+            BufferedImage source = decoded.get();
+            Path generated = Files.createTempFile(temp, "thumb-", ".jpg");
+            try {
+                ImageIO.write(resize(source, bucket), "jpg", generated.toFile());
+                moveAtomically(generated, thumbnail);
+            } finally {
+                Files.deleteIfExists(generated);
+            }
+            return Optional.of(thumbnail);
+        } finally {
+            lock.unlock();
+            thumbnailLocks.remove(key, lock);
+        }
+    }
+
+    //헤더만 읽은 reader 로 작업한다. ImageIO 가 읽지 못하거나 깨진 파일이면 empty
+    private static <T> Optional<T> withReader(Path file, ReaderAction<T> action) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) {
+                return Optional.empty();
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                return Optional.ofNullable(action.apply(reader));
+            } catch (IIOException e) {
+                return Optional.empty();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static boolean exceedsLimit(ImageReader reader) throws IOException {
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        return width > MAX_DIMENSION || height > MAX_DIMENSION || (long) width * height > MAX_PIXELS;
+    }
+
+    private BufferedImage resize(BufferedImage source, int maxWidth) {
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        //JPEG 는 알파 채널이 없으므로 흰 배경 위에 그린다
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private Path originalPath(String hash) {
+        return originals.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    private void moveAtomically(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            //동시에 같은 내용이 먼저 저장된 경우
+            Files.deleteIfExists(source);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ReaderAction<T> {
+        T apply(ImageReader reader) throws IOException;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.bookjourneybackend.global.image;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+//hash: 내용의 SHA-256, path: 저장소 루트 기준 상대 경로 (BookImage/UserImage.path 에 저장)
+public record StoredImage(
+        String hash,
+        long size,
+        String path
+) {
+    //컴포넌트가 아닌 접근자는 Jackson 이 직렬화하지 않으므로 명시한다 (업로드 응답에 포함)
+    @JsonProperty("imageUrl")
+    public String imageUrl() {
+        return "/images/" + hash;
+    }
+}
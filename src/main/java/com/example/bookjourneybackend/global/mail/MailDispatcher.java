@@ -0,0 +1,202 @@
+package com.example.bookjourneybackend.global.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMailMessage;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 발송을 요청 스레드에서 분리하는 bounded 큐 + 전용 발송 스레드 풀.
+ * 워커는 큐에 쌓인 메일을 batch-size 만큼 모아 send(MimeMessage...) 한 번으로 보내므로
+ * 같은 SMTP 연결로 여러 메일을 전송하고, 실패한 메일만 지수 백오프로 재시도한다.
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private final JavaMailSender mailSender;
+    private final BlockingQueue<MailTask> queue;
+    private final int poolSize;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final ExecutorService senders;
+    private final ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    private final Timer latency;
+    private final Counter sent;
+    private final Counter failed;
+
+    public MailDispatcher(JavaMailSender mailSender,
+                          MeterRegistry meterRegistry,
+                          @Value("${mail-queue.capacity}") int capacity,
+                          @Value("${mail-queue.pool-size}") int poolSize,
+                          @Value("${mail-queue.batch-size}") int batchSize,
+                          @Value("${mail-queue.max-attempts}") int maxAttempts,
+                          @Value("${mail-queue.retry-backoff-millis}") long retryBackoffMillis) {
+        this.mailSender = mailSender;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.poolSize = poolSize;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.senders = Executors.newFixedThreadPool(poolSize, namedThreads("mail-sender"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(namedThreads("mail-retry"));
+
+        Gauge.builder("mail.queue.depth", queue, BlockingQueue::size)
+                .description("mails waiting to be sent")
+                .register(meterRegistry);
+        this.latency = Timer.builder("mail.send.latency")
+                .description("time from enqueue to successful send")
+                .register(meterRegistry);
+        this.sent = Counter.builder("mail.sent").register(meterRegistry);
+        this.failed = Counter.builder("mail.failed").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < poolSize; i++) {
+            senders.submit(this::runWorker);
+        }
+    }
+
+    //큐가 가득 차면 false
+    public boolean enqueue(SimpleMailMessage message) {
+        return queue.offer(new MailTask(message, System.nanoTime()));
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        retryScheduler.shutdownNow();
+        senders.shutdown();
+        if (!senders.awaitTermination(10, TimeUnit.SECONDS)) {
+            senders.shutdownNow();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("[MailDispatcher] {} mails were not sent before shutdown", queue.size());
+        }
+    }
+
+    private void runWorker() {
+        List<MailTask> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                MailTask first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[MailDispatcher] unexpected error while sending", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<MailTask> batch) {
+        Map<MimeMessage, MailTask> tasks = new IdentityHashMap<>();
+        for (MailTask task : batch) {
+            MimeMessage mimeMessage = mailSender.createMimeMessage();
+            task.message.copyTo(new MimeMailMessage(mimeMessage));
+            tasks.put(mimeMessage, task);
+        }
+
+        try {
+            mailSender.send(tasks.keySet().toArray(new MimeMessage[0]));
+            tasks.values().forEach(this::recordSent);
+        } catch (MailSendException e) {
+            //일부만 실패한 경우 실패한 메일만 재시도
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            tasks.forEach((mimeMessage, task) -> {
+                if (failedMessages.isEmpty() || failedMessages.containsKey(mimeMessage)) {
+                    retry(task, e);
+                } else {
+                    recordSent(task);
+                }
+            });
+        } catch (MailException e) {
+            tasks.values().forEach(task -> retry(task, e));
+        }
+    }
+
+    private void recordSent(MailTask task) {
+        sent.increment();
+        latency.record(System.nanoTime() - task.enqueuedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void retry(MailTask task, Exception cause) {
+        int attempt = task.attempts.incrementAndGet();
+        if (attempt >= maxAttempts || !running) {
+            failed.increment();
+            log.error("[MailDispatcher] giving up mail to {} after {} attempts",
+                    String.join(",", task.message.getTo() == null ? new String[0] : task.message.getTo()), attempt, cause);
+            return;
+        }
+        long backoff = retryBackoffMillis << (attempt - 1);
+        retryScheduler.schedule(() -> {
+            if (!queue.offer(task)) {
+                failed.increment();
+                log.error("[MailDispatcher] mail queue full, dropping retry");
+            }
+        }, backoff, TimeUnit.MILLISECONDS);
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class MailTask {
+
+        private final SimpleMailMessage message;
+        private final long enqueuedNanos;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private MailTask(SimpleMailMessage message, long enqueuedNanos) {
+            this.message = message;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+}
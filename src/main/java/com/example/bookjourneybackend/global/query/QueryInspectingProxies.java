@@ -0,0 +1,114 @@
+package com.example.bookjourneybackend.global.query;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * DataSource -> Connection -> Statement -> ResultSet 을 JDK 프록시로 감싸 실행 시간과 읽은 행 수를 QueryStats 에 기록한다.
+ * 열린 QueryStats 가 없는 스레드(스케줄러 등)에서는 위임만 한다.
+ */
+final class QueryInspectingProxies {
+
+    private QueryInspectingProxies() {
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        if (Proxy.isProxyClass(dataSource.getClass())
+                && Proxy.getInvocationHandler(dataSource) instanceof DataSourceHandler) {
+            return dataSource;
+        }
+        return proxy(DataSource.class, new DataSourceHandler(dataSource));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryInspectingProxies.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private record DataSourceHandler(DataSource target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryInspectingProxies.invoke(target, method, args);
+            if (result instanceof Connection connection) {
+                return proxy(Connection.class, new ConnectionHandler(connection));
+            }
+            return result;
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryInspectingProxies.invoke(target, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String value ? value : null;
+            return switch (method.getName()) {
+                case "prepareCall" -> proxy(CallableStatement.class, new StatementHandler(result, sql));
+                case "prepareStatement" -> proxy(PreparedStatement.class, new StatementHandler(result, sql));
+                case "createStatement" -> proxy(Statement.class, new StatementHandler(result, null));
+                default -> result;
+            };
+        }
+    }
+
+    private record StatementHandler(Object target, String preparedSql) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            QueryStats stats = QueryStats.current();
+            String name = method.getName();
+            if (stats == null || !name.startsWith("execute")) {
+                return wrapResultSet(QueryInspectingProxies.invoke(target, method, args), name);
+            }
+
+            long started = System.nanoTime();
+            try {
+                return wrapResultSet(QueryInspectingProxies.invoke(target, method, args), name);
+            } finally {
+                String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String value ? value : null;
+                stats.recordQuery(sql, System.nanoTime() - started);
+            }
+        }
+
+        private static Object wrapResultSet(Object result, String methodName) {
+            //getGeneratedKeys 는 쿼리 결과 행이 아니므로 세지 않는다
+            if (result instanceof ResultSet resultSet && !methodName.equals("getGeneratedKeys")) {
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet));
+            }
+            return result;
+        }
+    }
+
+    private record ResultSetHandler(ResultSet target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryInspectingProxies.invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                QueryStats stats = QueryStats.current();
+                if (stats != null) {
+                    stats.recordRow();
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.bookjourneybackend.global.query;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 쿼리 계측. 모든 JDBC 호출이 프록시를 거치므로 local/dev 프로필에서만 켠다 (query-inspection.enabled).
+ */
+@Configuration
+@ConditionalOnProperty(name = "query-inspection.enabled", havingValue = "true")
+public class QueryInspectionConfig {
+
+    //BeanPostProcessor 는 다른 빈보다 먼저 만들어져야 하므로 static
+    @Bean
+    public static BeanPostProcessor queryInspectingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? QueryInspectingProxies.wrap(dataSource) : bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryInspectionFilter> queryInspectionFilter(
+            MeterRegistry meterRegistry,
+            @Value("${query-inspection.repeat-threshold}") int repeatThreshold) {
+        FilterRegistrationBean<QueryInspectionFilter> registration =
+                new FilterRegistrationBean<>(new QueryInspectionFilter(meterRegistry, repeatThreshold));
+        //다른 필터에서 실행되는 쿼리도 포함되도록 가장 바깥에 둔다
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.bookjourneybackend.global.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 QueryStats 를 열어 쿼리 수/행 수/JDBC 시간을 응답 헤더와 메트릭으로 남긴다.
+ * 헤더는 본문을 쓰기 시작하는 시점의 값이고(이후엔 헤더를 바꿀 수 없다), 메트릭은 요청이 끝난 시점의 값이다.
+ * 같은 SQL 이 repeat-threshold 번 이상 실행되면 N+1 로 의심하고 경고를 남긴다.
+ */
+@Slf4j
+public class QueryInspectionFilter extends OncePerRequestFilter {
+
+    static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    static final String ROW_COUNT_HEADER = "X-Query-Rows";
+    static final String JDBC_TIME_HEADER = "X-Query-Time-Ms";
+    static final String MAX_REPEAT_HEADER = "X-Query-Max-Repeat";
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatThreshold;
+
+    public QueryInspectionFilter(MeterRegistry meterRegistry, int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatsHeaderResponse wrapped = new StatsHeaderResponse(response);
+        try (QueryStats stats = QueryStats.start()) {
+            wrapped.stats = stats;
+            try {
+                filterChain.doFilter(request, wrapped);
+            } finally {
+                wrapped.writeHeaders();
+                record(request, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.queryCount());
+        DistributionSummary.builder("http.server.requests.query.rows")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.rowCount());
+        Timer.builder("http.server.requests.jdbc")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.maxRepeat() >= repeatThreshold) {
+            meterRegistry.counter("http.server.requests.repeated.queries", "uri", uri, "method", method).increment();
+            log.warn("[QueryInspectionFilter] possible N+1 on {} {}: {} queries, same statement {} times: {}",
+                    method, uri, stats.queryCount(), stats.maxRepeat(), stats.mostRepeatedSql());
+        }
+    }
+
+    //본문을 쓰기 직전에 그때까지의 값으로 헤더를 붙인다
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private QueryStats stats;
+        private boolean headersWritten;
+
+        private StatsHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        private void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.queryCount()));
+            setHeader(ROW_COUNT_HEADER, String.valueOf(stats.rowCount()));
+            setHeader(JDBC_TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.jdbcNanos())));
+            setHeader(MAX_REPEAT_HEADER, String.valueOf(stats.maxRepeat()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
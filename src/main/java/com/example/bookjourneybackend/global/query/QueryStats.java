@@ -0,0 +1,91 @@
+package com.example.bookjourneybackend.global.query;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드에서 실행된 SQL 수/읽은 행 수/JDBC 시간.
+ * QueryInspectionFilter 가 요청마다 열고, 테스트에서는 try-with-resources 로 직접 열어 쿼리 예산을 검증할 수 있다.
+ * 바깥 범위가 열려 있으면 같은 값을 바깥에도 더한다.
+ */
+public final class QueryStats implements AutoCloseable {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final QueryStats parent;
+    //Hibernate 는 파라미터를 ? 로 바인딩하므로 같은 모양의 쿼리는 같은 SQL 문자열이다
+    private final Map<String, Integer> executions = new HashMap<>();
+    private int queryCount;
+    private long rowCount;
+    private long jdbcNanos;
+    private int maxRepeat;
+    private String mostRepeatedSql;
+
+    private QueryStats(QueryStats parent) {
+        this.parent = parent;
+    }
+
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    void recordQuery(String sql, long nanos) {
+        for (QueryStats stats = this; stats != null; stats = stats.parent) {
+            stats.queryCount++;
+            stats.jdbcNanos += nanos;
+            if (sql != null) {
+                int repeat = stats.executions.merge(sql, 1, Integer::sum);
+                if (repeat > stats.maxRepeat) {
+                    stats.maxRepeat = repeat;
+                    stats.mostRepeatedSql = sql;
+                }
+            }
+        }
+    }
+
+    void recordRow() {
+        for (QueryStats stats = this; stats != null; stats = stats.parent) {
+            stats.rowCount++;
+        }
+    }
+
+    public int queryCount() {
+        return queryCount;
+    }
+
+    public long rowCount() {
+        return rowCount;
+    }
+
+    public long jdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * 같은 SQL 이 가장 많이 실행된 횟수. 목록을 돌며 연관 엔티티를 하나씩 읽으면(N+1) 이 값이 N 에 가까워진다.
+     */
+    public int maxRepeat() {
+        return maxRepeat;
+    }
+
+    public String mostRepeatedSql() {
+        return mostRepeatedSql;
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
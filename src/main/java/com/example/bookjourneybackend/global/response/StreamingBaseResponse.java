@@ -0,0 +1,125 @@
+package com.example.bookjourneybackend.global.response;
+
+import com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * BaseResponse 와 같은 code/status/message 봉투를 유지하면서 data 배열을 원소 단위로 써 내려가는 응답.
+ * JSON 모드는 {"code":..,"status":..,"message":..,"data":[...]} 를,
+ * NDJSON 모드는 첫 줄에 봉투, 이후 한 줄에 원소 하나를 쓴다.
+ */
+@Slf4j
+public class StreamingBaseResponse<T> implements StreamingResponseBody {
+
+    //첫 원소는 바로 내보내고 이후에는 일정 개수마다 flush
+    private static final int FLUSH_EVERY = 100;
+
+    private final ObjectWriter writer;
+    private final HttpStatus status;
+    private final String message;
+    private final ElementSource<T> source;
+    private final boolean ndjson;
+
+    StreamingBaseResponse(ObjectMapper objectMapper, HttpStatus status, String message,
+                          ElementSource<T> source, boolean ndjson) {
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.status = status;
+        this.message = message;
+        this.source = source;
+        this.ndjson = ndjson;
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = writer.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            //켜져 있으면 도중에 실패해도 close 가 열린 배열/객체를 닫아 잘린 응답이 정상 JSON 으로 보인다
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            //루트 값 사이 기본 구분자(공백) 대신 줄바꿈을 직접 쓴다
+            generator.setRootValueSeparator(null);
+            if (ndjson) {
+                writeNdjson(generator);
+            } else {
+                writeJson(generator);
+            }
+        }
+    }
+
+    private void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeEnvelopeFields(generator);
+        generator.writeArrayFieldStart("data");
+        //도중 실패 시 배열을 닫지 않고 끊어 클라이언트가 잘린 응답임을 알 수 있게 한다
+        source.drain(new Sink(generator, false));
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeNdjson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeEnvelopeFields(generator);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.flush();
+        try {
+            source.drain(new Sink(generator, true));
+        } catch (RuntimeException e) {
+            //NDJSON 은 마지막 줄에 에러 봉투를 남긴다
+            log.error("[StreamingBaseResponse] 스트리밍 중 오류", e);
+            BaseExceptionResponseStatus error = BaseExceptionResponseStatus.INTERNAL_SERVER_ERROR;
+            writer.writeValue(generator, new BaseErrorResponse(error.getStatus(), error.getMessage()));
+            generator.writeRaw('\n');
+        }
+    }
+
+    private void writeEnvelopeFields(JsonGenerator generator) throws IOException {
+        generator.writeNumberField("code", status.value());
+        generator.writeStringField("status", status.name());
+        generator.writeStringField("message", message);
+    }
+
+    /**
+     * 원소를 하나씩 흘려보내는 데이터 원천 (JPA Stream, keyset 커서 등)
+     */
+    @FunctionalInterface
+    public interface ElementSource<T> {
+        void drain(ElementSink<T> sink) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface ElementSink<T> {
+        void write(T element) throws IOException;
+    }
+
+    private final class Sink implements ElementSink<T> {
+
+        private final JsonGenerator generator;
+        private final boolean lineDelimited;
+        private long written;
+
+        private Sink(JsonGenerator generator, boolean lineDelimited) {
+            this.generator = generator;
+            this.lineDelimited = lineDelimited;
+        }
+
+        @Override
+        public void write(T element) throws IOException {
+            writer.writeValue(generator, element);
+            if (lineDelimited) {
+                generator.writeRaw('\n');
+            }
+            if (written++ % FLUSH_EVERY == 0) {
+                generator.flush();
+            }
+        }
+    }
+}
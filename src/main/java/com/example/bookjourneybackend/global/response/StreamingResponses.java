@@ -0,0 +1,114 @@
+package com.example.bookjourneybackend.global.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * StreamingBaseResponse 생성기.
+ * 응답 본문은 MVC 비동기 스레드에서 쓰이므로 조회도 그 스레드의 읽기 전용 트랜잭션 안에서 연다.
+ * export 는 오래 걸릴 수 있어 이 응답에만 streaming.timeout-millis 비동기 타임아웃을 준다 (StreamingTimeoutInterceptor).
+ */
+@Component
+public class StreamingResponses {
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long timeoutMillis;
+
+    public StreamingResponses(ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                              @Value("${streaming.timeout-millis}") long timeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * JPA Stream 을 하나의 트랜잭션에서 끝까지 읽으며 전송.
+     * 영속성 컨텍스트가 쌓이지 않도록 엔티티 대신 DTO 프로젝션 쿼리를 넘긴다.
+     */
+    public <T> ResponseEntity<StreamingResponseBody> ok(Supplier<Stream<T>> query, boolean ndjson) {
+        return ok(sink -> execute(() -> {
+            try (Stream<T> stream = query.get()) {
+                Iterator<T> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    sink.write(iterator.next());
+                }
+            }
+        }), ndjson);
+    }
+
+    /**
+     * keyset 커서로 페이지를 이어 읽으며 전송. 페이지마다 짧은 트랜잭션을 쓰므로 긴 export 에도 커넥션을 오래 잡지 않는다.
+     * pageFetcher 는 첫 페이지에서 null 커서를 받고, 빈 페이지를 돌려주면 종료한다.
+     */
+    public <T, C> ResponseEntity<StreamingResponseBody> ok(Function<C, List<T>> pageFetcher,
+                                                           Function<T, C> cursorOf,
+                                                           boolean ndjson) {
+        return ok(sink -> {
+            C cursor = null;
+            while (true) {
+                C current = cursor;
+                List<T> page = readOnlyTransaction.execute(status -> pageFetcher.apply(current));
+                if (page == null || page.isEmpty()) {
+                    return;
+                }
+                for (T element : page) {
+                    sink.write(element);
+                }
+                cursor = cursorOf.apply(page.get(page.size() - 1));
+            }
+        }, ndjson);
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> ok(StreamingBaseResponse.ElementSource<T> source, boolean ndjson) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            request.setAttribute(StreamingTimeoutInterceptor.TIMEOUT_ATTRIBUTE, timeoutMillis, RequestAttributes.SCOPE_REQUEST);
+        }
+        HttpStatus status = HttpStatus.OK;
+        return ResponseEntity.status(status)
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(new StreamingBaseResponse<>(objectMapper, status, status.name(), source, ndjson));
+    }
+
+    public static boolean acceptsNdjson(String accept) {
+        return accept != null && accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+    }
+
+    private void execute(IoAction action) throws IOException {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try {
+                    action.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.bookjourneybackend.global.response;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * StreamingResponses 가 만든 응답에만 긴 비동기 타임아웃을 준다 (다른 비동기 요청은 기본값 유지).
+ * 비동기 처리를 시작하기 직전에 호출되므로 여기서 바꾼 값이 적용된다.
+ */
+public class StreamingTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    static final String TIMEOUT_ATTRIBUTE = StreamingTimeoutInterceptor.class.getName() + ".timeout";
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        Object timeout = request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (timeout instanceof Long millis && request instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(millis);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.bookjourneybackend.global.response.status;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@RequiredArgsConstructor
+public enum BaseExceptionResponseStatus implements ResponseStatus {
+
+    //공통
+    BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서 값입니다."),
+    INVALID_PAGE_SIZE(HttpStatus.BAD_REQUEST, "페이지 크기는 1 이상 50 이하여야 합니다."),
+    EMPTY_CONTENT(HttpStatus.BAD_REQUEST, "내용을 입력해주세요."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "조회 기간은 1일 이상 366일 이하여야 합니다."),
+    UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다."),
+    FORBIDDEN(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류입니다."),
+
+    //이미지
+    INVALID_IMAGE(HttpStatus.BAD_REQUEST, "이미지 파일만 업로드할 수 있습니다."),
+    CANNOT_FOUND_IMAGE(HttpStatus.NOT_FOUND, "존재하지 않는 이미지입니다."),
+    IMAGE_TOO_LARGE(HttpStatus.BAD_REQUEST, "이미지 해상도는 가로/세로 10000px, 총 2500만 픽셀 이하여야 합니다."),
+
+    //책
+    EMPTY_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "검색어를 입력해주세요."),
+    INVALID_GENRE_TYPE(HttpStatus.BAD_REQUEST, "존재하지 않는 장르입니다."),
+
+    //방
+    CANNOT_FOUND_ROOM(HttpStatus.NOT_FOUND, "존재하지 않는 방입니다."),
+    INVALID_USER_PERCENTAGE(HttpStatus.BAD_REQUEST, "진행률은 0 이상 100 이하여야 합니다."),
+    ROOM_FULL(HttpStatus.CONFLICT, "모집 인원이 가득 찬 방입니다."),
+    RECRUITMENT_CLOSED(HttpStatus.BAD_REQUEST, "모집이 마감된 방입니다."),
+    ALREADY_JOINED_ROOM(HttpStatus.CONFLICT, "이미 참여한 방입니다."),
+    NOT_ROOM_MEMBER(HttpStatus.FORBIDDEN, "방 멤버가 아닙니다."),
+    NOT_ROOM_OWNER(HttpStatus.FORBIDDEN, "본인의 방만 수정할 수 있습니다."),
+
+    //유저
+    CANNOT_FOUND_USER(HttpStatus.NOT_FOUND, "존재하지 않는 유저입니다."),
+    INVALID_EMAIL(HttpStatus.BAD_REQUEST, "이메일을 입력해주세요."),
+    ALREADY_EXIST_EMAIL(HttpStatus.CONFLICT, "이미 가입된 이메일입니다."),
+    TOO_MANY_VERIFICATION_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "인증 요청이 많아 잠시 후 다시 시도해주세요."),
+    TOO_MANY_VERIFICATION_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "인증 시도 횟수를 초과했습니다. 인증 코드를 다시 요청해주세요."),
+    MAIL_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "메일 요청이 많아 잠시 후 다시 시도해주세요."),
+
+    //기록
+    CANNOT_FOUND_RECORD(HttpStatus.NOT_FOUND, "존재하지 않는 기록입니다."),
+    INVALID_BOOK_PAGE(HttpStatus.BAD_REQUEST, "페이지는 0 이상이어야 합니다."),
+    ALREADY_LIKED_RECORD(HttpStatus.CONFLICT, "이미 좋아요한 기록입니다."),
+    NOT_LIKED_RECORD(HttpStatus.BAD_REQUEST, "좋아요하지 않은 기록입니다."),
+
+    //댓글
+    CANNOT_FOUND_COMMENT(HttpStatus.NOT_FOUND, "존재하지 않는 댓글입니다."),
+    ALREADY_LIKED_COMMENT(HttpStatus.CONFLICT, "이미 좋아요한 댓글입니다."),
+    NOT_LIKED_COMMENT(HttpStatus.BAD_REQUEST, "좋아요하지 않은 댓글입니다.");
+
+    private final HttpStatus status;
+    private final String message;
+
+    @Override
+    public int getCode() {
+        return status.value();
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.bookjourneybackend.global.sse;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채널(방) 단위 SSE 브로드캐스터.
+ * 구독자마다 크기가 제한된 큐를 두고 전용 발송 풀이 큐를 비우므로, 느린 구독자가 발행 스레드나 다른 구독자를 막지 않는다.
+ * 큐가 가득 찬 구독자는 끊어서 내보내고, 재접속 시 Last-Event-ID 이후 이벤트를 채널 히스토리에서 다시 보낸다.
+ */
+@Slf4j
+@Component
+public class SseBroadcaster {
+
+    //히스토리보다 오래된 Last-Event-ID 로 재접속하면 클라이언트가 목록을 다시 읽도록 알린다
+    public static final String RESET_EVENT = "reset";
+
+    private final int bufferSize;
+    private final int historySize;
+    private final long timeoutMillis;
+    private final long historyRetentionMillis;
+    private final ExecutorService senders;
+
+    private final ConcurrentHashMap<String, Channel> channels = new ConcurrentHashMap<>();
+    //재시작 후에도 이전 id 보다 커지도록 기동 시각에서 시작
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    public SseBroadcaster(@Value("${sse.buffer-size}") int bufferSize,
+                          @Value("${sse.history-size}") int historySize,
+                          @Value("${sse.timeout-millis}") long timeoutMillis,
+                          @Value("${sse.history-retention-millis}") long historyRetentionMillis,
+                          @Value("${sse.send-pool-size}") int sendPoolSize) {
+        this.bufferSize = bufferSize;
+        this.historySize = historySize;
+        this.timeoutMillis = timeoutMillis;
+        this.historyRetentionMillis = historyRetentionMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.senders = Executors.newFixedThreadPool(sendPoolSize, threadFactory);
+    }
+
+    public SseEmitter subscribe(String channelId, String lastEventId) {
+        SseEmitter emitter = createEmitter();
+        while (true) {
+            Channel channel = channels.computeIfAbsent(channelId, id -> new Channel());
+            Subscriber subscriber = new Subscriber(emitter, channel);
+            //히스토리 재전송과 구독자 등록을 같은 락 안에서 해서 그 사이 발행된 이벤트가 빠지거나 중복되지 않게 한다
+            synchronized (channel) {
+                //가져온 뒤 heartbeat 가 빈 채널로 보고 맵에서 뺀 경우 새 채널로 다시 시도
+                if (channel.removed) {
+                    continue;
+                }
+                if (lastEventId != null && !lastEventId.isBlank()) {
+                    replay(channel, subscriber, lastEventId);
+                }
+                channel.subscribers.add(subscriber);
+            }
+
+            emitter.onCompletion(() -> channel.subscribers.remove(subscriber));
+            emitter.onTimeout(emitter::complete);
+            emitter.onError(e -> channel.subscribers.remove(subscriber));
+            subscriber.schedule();
+            return emitter;
+        }
+    }
+
+    public void publish(String channelId, String eventName, Object data) {
+        Channel channel = channels.get(channelId);
+        if (channel == null) {
+            return;
+        }
+        Event event = new Event(sequence.incrementAndGet(), eventName, data);
+        synchronized (channel) {
+            channel.history.add(event);
+            if (channel.history.size() > historySize) {
+                channel.trimmedUpTo = channel.history.poll().id;
+            }
+            channel.lastEventAt = System.currentTimeMillis();
+            for (Subscriber subscriber : channel.subscribers) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    public int subscriberCount(String channelId) {
+        Channel channel = channels.get(channelId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주석 한 줄을 보낸다.
+     * 구독자가 없고 히스토리 보관 시간이 지난 채널은 여기서 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-millis}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        channels.forEach((channelId, channel) -> {
+            synchronized (channel) {
+                if (channel.subscribers.isEmpty()) {
+                    if (now - channel.lastEventAt > historyRetentionMillis) {
+                        channel.removed = true;
+                        channels.remove(channelId, channel);
+                    }
+                    return;
+                }
+                for (Subscriber subscriber : channel.subscribers) {
+                    subscriber.offer(Event.HEARTBEAT);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        channels.clear();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void replay(Channel channel, Subscriber subscriber, String lastEventId) {
+        long lastId;
+        try {
+            lastId = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            subscriber.offer(Event.RESET);
+            return;
+        }
+        //id 는 채널 전체에서 공유하는 순번이라 채널 안에서는 띄엄띄엄이므로, 히스토리에서 밀려난 마지막 id 와 비교한다
+        if (lastId < channel.trimmedUpTo) {
+            subscriber.offer(Event.RESET);
+            return;
+        }
+        for (Event event : channel.history) {
+            if (event.id > lastId) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    private record Event(long id, String name, Object data) {
+
+        private static final Event HEARTBEAT = new Event(-1, null, null);
+        private static final Event RESET = new Event(-1, RESET_EVENT, "");
+    }
+
+    private final class Channel {
+
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final Queue<Event> history = new ArrayDeque<>();
+        //이 id 이하의 이벤트는 히스토리에 없다 (채널이 정리된 뒤 다시 만들어진 경우 포함)
+        private long trimmedUpTo = sequence.get();
+        private volatile long lastEventAt = System.currentTimeMillis();
+        //맵에서 빠진 채널 (채널 락 안에서만 읽고 쓴다)
+        private boolean removed;
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Channel channel;
+        private final BlockingQueue<Event> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, Channel channel) {
+            this.emitter = emitter;
+            this.channel = channel;
+        }
+
+        private void offer(Event event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                //버퍼가 가득 찬 느린 구독자는 끊는다. 클라이언트는 Last-Event-ID 로 재접속해 이어 받는다
+                log.info("[SseBroadcaster] evicting slow subscriber (buffer {})", bufferSize);
+                close();
+                emitter.complete();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (!closed && !queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Event event;
+                while (!closed && (event = queue.poll()) != null) {
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                emitter.completeWithError(e);
+            } finally {
+                scheduled.set(false);
+            }
+            //drain 종료와 새 offer 가 엇갈린 경우
+            schedule();
+        }
+
+        private void send(Event event) throws IOException {
+            if (event == Event.HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.name);
+            if (event.id >= 0) {
+                builder.id(Long.toString(event.id));
+            }
+            emitter.send(builder.data(event.data, MediaType.APPLICATION_JSON));
+        }
+
+        private void close() {
+            closed = true;
+            channel.subscribers.remove(this);
+            queue.clear();
+        }
+    }
+}
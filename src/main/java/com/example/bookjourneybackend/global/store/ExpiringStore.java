@@ -0,0 +1,21 @@
+package com.example.bookjourneybackend.global.store;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 만료 시간이 있는 key-value 저장소.
+ * 단일 서버에서는 InMemoryExpiringStore 를 쓰고, 다중 서버 환경에서는 공유 저장소 구현으로 교체한다.
+ */
+public interface ExpiringStore {
+
+    //저장 공간이 가득 차 새 key 를 받을 수 없으면 false
+    boolean put(String key, String value, Duration ttl);
+
+    Optional<String> get(String key);
+
+    //숫자 값을 원자적으로 1 증가시킨 결과. key 가 없으면 ttl 로 새로 만들고 1, 있으면 기존 만료 시각을 유지한다
+    long increment(String key, Duration ttl);
+
+    void remove(String key);
+}
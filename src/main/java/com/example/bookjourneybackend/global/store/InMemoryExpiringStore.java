@@ -0,0 +1,170 @@
+package com.example.bookjourneybackend.global.store;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConcurrentHashMap + hashed timing wheel 기반의 만료 저장소.
+ * 만료 등록은 버킷 하나에 넣는 O(1) 이고, tick 마다 해당 버킷만 확인하므로 전체 key 를 훑지 않는다.
+ * 조회 시에도 만료 시각을 확인하므로 tick 이 늦어져도 만료된 값은 반환되지 않는다.
+ * 덮어쓰거나 지운 항목은 버킷에서도 바로 빼서 만료 시각까지 남아 있지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "expiring-store.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryExpiringStore implements ExpiringStore {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry>[] wheel;
+    private final int mask;
+    private final long tickMillis;
+    private final int maxEntries;
+    private final ScheduledExecutorService ticker;
+
+    private volatile long currentTick;
+
+    public InMemoryExpiringStore(@Value("${expiring-store.tick-millis}") long tickMillis,
+                                 @Value("${expiring-store.wheel-size}") int wheelSize,
+                                 @Value("${expiring-store.max-entries}") int maxEntries) {
+        int size = Integer.highestOneBit(Math.max(2, wheelSize - 1) << 1);
+        @SuppressWarnings("unchecked")
+        Queue<Entry>[] buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.wheel = buckets;
+        this.mask = size - 1;
+        this.tickMillis = tickMillis;
+        this.maxEntries = maxEntries;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "expiring-store-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean put(String key, String value, Duration ttl) {
+        if (!entries.containsKey(key) && entries.mappingCount() >= maxEntries) {
+            return false;
+        }
+        Entry entry = newEntry(key, value, ttl);
+        Entry previous = entries.put(key, entry);
+        schedule(entry);
+        unschedule(previous);
+        return true;
+    }
+
+    @Override
+    public long increment(String key, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Entry[] previous = new Entry[1];
+        Entry updated = entries.compute(key, (k, current) -> {
+            previous[0] = current;
+            if (current == null || current.expiresAtMillis <= now) {
+                return newEntry(k, "1", ttl);
+            }
+            return new Entry(k, String.valueOf(Long.parseLong(current.value) + 1),
+                    current.expiresAtMillis, current.deadlineTick);
+        });
+        schedule(updated);
+        unschedule(previous[0]);
+        return Long.parseLong(updated.value);
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAtMillis <= System.currentTimeMillis()) {
+            if (entries.remove(key, entry)) {
+                unschedule(entry);
+            }
+            return Optional.empty();
+        }
+        return Optional.of(entry.value);
+    }
+
+    @Override
+    public void remove(String key) {
+        unschedule(entries.remove(key));
+    }
+
+    public long size() {
+        return entries.mappingCount();
+    }
+
+    //버킷에 들어 있는 항목 수 (맵과 어긋나지 않는지 확인용)
+    long scheduledCount() {
+        long count = 0;
+        for (Queue<Entry> bucket : wheel) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    //동시에 덮어쓰는 중인 항목이 버킷에 남아 있을 수 있으므로 현재 맵의 항목과 같을 때만 지운다
+    void advance() {
+        long tick = currentTick + 1;
+        currentTick = tick;
+        for (Iterator<Entry> it = wheel[(int) (tick & mask)].iterator(); it.hasNext(); ) {
+            Entry entry = it.next();
+            if (entry.deadlineTick <= tick) {
+                it.remove();
+                entries.remove(entry.key, entry);
+            }
+        }
+    }
+
+    private Entry newEntry(String key, String value, Duration ttl) {
+        long ticks = Math.max(1, (ttl.toMillis() + tickMillis - 1) / tickMillis);
+        return new Entry(key, value, System.currentTimeMillis() + ttl.toMillis(), currentTick + ticks);
+    }
+
+    private void schedule(Entry entry) {
+        wheel[(int) (entry.deadlineTick & mask)].add(entry);
+    }
+
+    //버킷 하나에는 평균 maxEntries / wheelSize 개만 있으므로 선형 삭제로 충분하다
+    private void unschedule(Entry entry) {
+        if (entry != null) {
+            wheel[(int) (entry.deadlineTick & mask)].remove(entry);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final String value;
+        private final long expiresAtMillis;
+        private final long deadlineTick;
+
+        private Entry(String key, String value, long expiresAtMillis, long deadlineTick) {
+            this.key = key;
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.benchmark;
+
+import jakarta.persistence.*;
+
+//애플리케이션 엔티티 스캔 범위(com.example.bookjourneybackend) 밖에 두어 다른 테스트 컨텍스트에 테이블이 생기지 않게 한다
+@Entity
+@Table(name = "bench_identity")
+public class IdentityBenchEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String content;
+
+    protected IdentityBenchEntity() {
+    }
+
+    public IdentityBenchEntity(String content) {
+        this.content = content;
+    }
+}
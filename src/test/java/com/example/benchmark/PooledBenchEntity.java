@@ -0,0 +1,25 @@
+package com.example.benchmark;
+
+import com.example.bookjourneybackend.global.entity.IdSequences;
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "bench_pooled")
+public class PooledBenchEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "bench_pooled_id_generator")
+    @TableGenerator(name = "bench_pooled_id_generator", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.PK_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "bench_pooled", allocationSize = IdSequences.ALLOCATION_SIZE)
+    private Long id;
+
+    private String content;
+
+    protected PooledBenchEntity() {
+    }
+
+    public PooledBenchEntity(String content) {
+        this.content = content;
+    }
+}
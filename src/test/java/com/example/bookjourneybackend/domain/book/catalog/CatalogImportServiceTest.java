@@ -0,0 +1,92 @@
+package com.example.bookjourneybackend.domain.book.catalog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "catalog-import.chunk-size=2")
+class CatalogImportServiceTest {
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+    @Autowired
+    private CatalogImportCheckpointRepository checkpointRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void 중단된_적재를_이어서_해도_책과_이미지가_중복되지_않는다() throws IOException {
+        long baseIsbn = 9_790_000_000_000L + (System.nanoTime() % 100_000) * 100;
+        String sourceName = "catalog-" + baseIsbn;
+        Path file = dir.resolve("catalog.csv");
+
+        //두 청크(4행)를 커밋한 뒤 6행의 닫히지 않은 따옴표에서 적재가 죽는다
+        StringBuilder broken = new StringBuilder("isbn,title,author,image_url\n");
+        for (int i = 1; i <= 5; i++) {
+            broken.append(row(baseIsbn + i));
+        }
+        broken.append(baseIsbn + 6).append(",\"닫히지 않은 제목,작가,http://img/6.jpg\n");
+        Files.writeString(file, broken, StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> catalogImportService.importCatalog(file, sourceName, false))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThat(checkpointRepository.findBySourceName(sourceName).orElseThrow().getProcessedRows()).isEqualTo(4);
+        assertThat(countBooks(baseIsbn)).isEqualTo(4);
+
+        //파일을 고쳐서 같은 이름으로 다시 실행하면 5행부터 이어서 적재한다
+        StringBuilder fixed = new StringBuilder("isbn,title,author,image_url\n");
+        for (int i = 1; i <= 8; i++) {
+            fixed.append(row(baseIsbn + i));
+        }
+        Files.writeString(file, fixed, StandardCharsets.UTF_8);
+
+        CatalogImportResult result = catalogImportService.importCatalog(file, sourceName, false);
+
+        assertThat(result.processedRows()).isEqualTo(8);
+        assertThat(result.inserted()).isEqualTo(4);
+        assertThat(result.updated()).isZero();
+        assertThat(countBooks(baseIsbn)).isEqualTo(8);
+        assertThat(countDuplicateIsbns(baseIsbn)).isZero();
+        assertThat(countImages(baseIsbn)).isEqualTo(8);
+        assertThat(checkpointRepository.findBySourceName(sourceName).orElseThrow().isCompleted()).isTrue();
+
+        //완료된 파일은 다시 돌리지 않는다
+        assertThat(catalogImportService.importCatalog(file, sourceName, false).inserted()).isZero();
+        assertThat(countBooks(baseIsbn)).isEqualTo(8);
+    }
+
+    private static String row(long isbn) {
+        return isbn + ",\"제목, " + isbn + "\",작가,http://img/" + isbn + ".jpg\n";
+    }
+
+    private int countBooks(long baseIsbn) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from books where isbn_code between ? and ?", Integer.class, baseIsbn, baseIsbn + 99);
+    }
+
+    private int countDuplicateIsbns(long baseIsbn) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from (select isbn_code from books where isbn_code between ? and ? " +
+                        "group by isbn_code having count(*) > 1) duplicated", Integer.class, baseIsbn, baseIsbn + 99);
+    }
+
+    private int countImages(long baseIsbn) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from book_image bi join books b on b.book_id = bi.book_id " +
+                        "where b.isbn_code between ? and ?", Integer.class, baseIsbn, baseIsbn + 99);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.bookjourneybackend.domain.book.catalog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvCatalogReaderTest {
+
+    private static final String HEADER = "isbn,title,author,description";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void 따옴표_안의_쉼표와_줄바꿈은_한_필드다() throws IOException {
+        List<CatalogRow> rows = read(HEADER + "\n" +
+                "9780000000001,\"제목, 부제\",작가,\"첫 줄\n\n셋째 줄\"\n" +
+                "9780000000002,다음 책,작가2,설명\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).title()).isEqualTo("제목, 부제");
+        assertThat(rows.get(0).description()).isEqualTo("첫 줄\n\n셋째 줄");
+        assertThat(rows.get(1).isbn()).isEqualTo("9780000000002");
+    }
+
+    @Test
+    void 두_개의_따옴표는_따옴표_하나로_읽는다() throws IOException {
+        List<CatalogRow> rows = read(HEADER + "\n" +
+                "9780000000001,\"그가 \"\"안녕\"\"이라 말했다\",작가,\"\"\"\"\n");
+
+        assertThat(rows.get(0).title()).isEqualTo("그가 \"안녕\"이라 말했다");
+        assertThat(rows.get(0).description()).isEqualTo("\"");
+    }
+
+    @Test
+    void BOM_과_CRLF_를_처리한다() throws IOException {
+        List<CatalogRow> rows = read("\uFEFFISBN,Title,Author,Image_Url\r\n" +
+                "9780000000001,제목,작가,http://img/1.jpg\r\n" +
+                "9780000000002,\"여러\r\n줄\",작가,\r\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).isbn()).isEqualTo("9780000000001");
+        assertThat(rows.get(0).imageUrl()).isEqualTo("http://img/1.jpg");
+        assertThat(rows.get(1).title()).isEqualTo("여러\n줄");
+        assertThat(rows.get(1).imageUrl()).isNull();
+    }
+
+    @Test
+    void 닫히지_않은_따옴표는_앞_레코드까지_읽은_뒤_실패한다() throws IOException {
+        Path file = write(HEADER + "\n" +
+                "9780000000001,제목,작가,설명\n" +
+                "9780000000002,\"닫히지 않은 제목,작가,설명\n" +
+                "9780000000003,제목3,작가3,설명3\n");
+
+        try (CsvCatalogReader reader = new CsvCatalogReader(file)) {
+            assertThat(reader.hasNext()).isTrue();
+            assertThat(reader.next().isbn()).isEqualTo("9780000000001");
+            assertThat(reader.hasNext()).isTrue();
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(UncheckedIOException.class)
+                    .hasMessageContaining("unterminated quoted field");
+        }
+    }
+
+    private List<CatalogRow> read(String content) throws IOException {
+        List<CatalogRow> rows = new ArrayList<>();
+        try (CsvCatalogReader reader = new CsvCatalogReader(write(content))) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(dir.resolve("catalog-" + System.nanoTime() + ".csv"), content, StandardCharsets.UTF_8);
+    }
+}
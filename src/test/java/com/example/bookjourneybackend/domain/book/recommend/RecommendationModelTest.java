@@ -0,0 +1,102 @@
+package com.example.bookjourneybackend.domain.book.recommend;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationModelTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationModelTest.class);
+
+    private static final int FANTASY = 0;
+    private static final int HISTORY = 3;
+
+    @Test
+    void 함께_읽힌_도서를_유사_도서로_묶는다() {
+        RecommendationModel.Builder builder = new RecommendationModel.Builder();
+        for (long user = 1; user <= 5; user++) {
+            builder.addEdge(user, 100L, 2);
+            builder.addEdge(user, 200L, 1);
+        }
+        builder.addEdge(6L, 100L, 1);
+        builder.addEdge(6L, 300L, 1);
+
+        RecommendationModel model = builder.build(10, 0f, 100);
+
+        assertThat(model.similarBooks(100L, 10)).startsWith(200L);
+        assertThat(model.similarBooks(999L, 10)).isEmpty();
+    }
+
+    @Test
+    void 이미_가진_도서는_추천하지_않고_함께_읽힌_도서를_추천한다() {
+        RecommendationModel.Builder builder = new RecommendationModel.Builder();
+        for (long user = 1; user <= 5; user++) {
+            builder.addEdge(user, 100L, 1);
+            builder.addEdge(user, 200L, 1);
+        }
+        builder.addEdge(7L, 100L, 1);
+
+        RecommendationModel model = builder.build(10, 0.3f, 100);
+
+        assertThat(model.recommendForUser(7L, 10)).containsExactly(200L);
+    }
+
+    @Test
+    void 상호작용이_없는_유저는_선호_장르의_인기_도서를_받는다() {
+        RecommendationModel.Builder builder = new RecommendationModel.Builder();
+        builder.addEdge(1L, 100L, 1);
+        builder.addEdge(2L, 100L, 1);
+        builder.addEdge(1L, 200L, 1);
+        builder.setBookGenre(100L, FANTASY);
+        builder.setBookGenre(200L, HISTORY);
+        builder.addFavoriteGenre(9L, HISTORY);
+
+        RecommendationModel model = builder.build(10, 0.3f, 100);
+
+        assertThat(model.recommendForUser(9L, 10)).containsExactly(200L);
+        assertThat(model.recommendForUser(10L, 10)).containsExactly(100L, 200L);
+    }
+
+    /**
+     * 간선 100만 개 합성 데이터로 빌드 시간과 힙 사용량 측정.
+     * ./gradlew test --tests '*RecommendationModelTest' -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 간선_100만개를_수분_안에_빌드한다() {
+        int edges = 1_000_000;
+        int users = 200_000;
+        int books = 50_000;
+        Random random = new Random(42);
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        long started = System.nanoTime();
+
+        RecommendationModel.Builder builder = new RecommendationModel.Builder();
+        for (int e = 0; e < edges; e++) {
+            //인기 도서에 간선이 몰리도록 제곱 분포로 뽑는다
+            double skew = random.nextDouble();
+            long book = 1 + (long) (skew * skew * books);
+            builder.addEdge(1 + random.nextInt(users), book, 1 + random.nextInt(2));
+        }
+        for (long book = 1; book <= books; book++) {
+            builder.setBookGenre(book, (int) (book % 16));
+        }
+        RecommendationModel model = builder.build(30, 0.3f, 500);
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+        log.info("[recommendation] {} edges, build {} ms, heap +{} MB",
+                model.edgeCount(), elapsedMillis, (heapAfter - heapBefore) / (1024 * 1024));
+
+        assertThat(model.recommendForUser(1L, 10)).hasSize(10);
+        assertThat(elapsedMillis).isLessThan(300_000);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.bookjourneybackend.domain.room.readTogether.service;
+
+import com.example.bookjourneybackend.domain.book.Book;
+import com.example.bookjourneybackend.domain.book.Genre;
+import com.example.bookjourneybackend.domain.book.repository.BookRepository;
+import com.example.bookjourneybackend.domain.book.repository.GenreRepository;
+import com.example.bookjourneybackend.domain.room.Room;
+import com.example.bookjourneybackend.domain.room.readTogether.RoomTogether;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.RoomTogetherRepository;
+import com.example.bookjourneybackend.domain.room.repository.RoomRepository;
+import com.example.bookjourneybackend.domain.user.User;
+import com.example.bookjourneybackend.domain.user.repository.UserRepository;
+import com.example.bookjourneybackend.global.entity.GenreType;
+import com.example.bookjourneybackend.global.entity.RoomType;
+import com.example.bookjourneybackend.global.benchmark.LatencyStats;
+import com.example.bookjourneybackend.global.entity.UserRole;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.ROOM_FULL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인기 방이 열렸을 때 여러 명이 동시에 참여하는 상황.
+ * 기본 테스트는 정원을 넘겨 참여되지 않는지만 작은 규모로 확인하고,
+ * 처리량/p99 측정은 ./gradlew test --tests '*RoomJoinConcurrencyTest' -Dbenchmark=true 로 따로 돌린다.
+ */
+@SpringBootTest
+class RoomJoinConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomJoinConcurrencyTest.class);
+
+    @Autowired
+    private RoomJoinService roomJoinService;
+    @Autowired
+    private RoomTogetherRepository roomTogetherRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Test
+    void 동시에_참여해도_정원을_넘지_않고_만석_이후는_바로_거절한다() throws InterruptedException {
+        JoinResult result = joinConcurrently(5, 40, 8);
+
+        assertNoOverbooking(result);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 수백_명이_동시에_참여할_때의_처리량과_p99() throws InterruptedException {
+        //워밍업
+        joinConcurrently(50, 400, 64);
+        JoinResult result = joinConcurrently(50, 400, 64);
+
+        log.info("[RoomJoinConcurrency] 400 joiners, 64 threads: {}", result.stats());
+        assertNoOverbooking(result);
+    }
+
+    private JoinResult joinConcurrently(int recruitCount, int joinerCount, int threads) throws InterruptedException {
+        String prefix = "join-" + System.nanoTime();
+        Long readTogetherId = openRoom(prefix, recruitCount);
+        List<User> joiners = new ArrayList<>();
+        for (int i = 0; i < joinerCount; i++) {
+            joiners.add(user(prefix + "-" + i));
+        }
+        List<Long> joinerIds = userRepository.saveAll(joiners).stream().map(User::getUserId).toList();
+
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejectedFull = new AtomicInteger();
+        List<Throwable> unexpected = new ArrayList<>();
+        long[] latencyNanos = new long[joinerCount];
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(joinerCount);
+        for (int i = 0; i < joinerCount; i++) {
+            int index = i;
+            Long userId = joinerIds.get(i);
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    long begin = System.nanoTime();
+                    try {
+                        roomJoinService.joinRoom(readTogetherId, userId);
+                        joined.incrementAndGet();
+                    } catch (GlobalException e) {
+                        if (e.getExceptionStatus() == ROOM_FULL) {
+                            rejectedFull.incrementAndGet();
+                        } else {
+                            synchronized (unexpected) {
+                                unexpected.add(e);
+                            }
+                        }
+                    }
+                    latencyNanos[index] = System.nanoTime() - begin;
+                } catch (Throwable t) {
+                    synchronized (unexpected) {
+                        unexpected.add(t);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        long elapsedNanos = System.nanoTime() - begin;
+        executor.shutdown();
+
+        return new JoinResult(readTogetherId, recruitCount, joinerCount, joined.get(), rejectedFull.get(),
+                unexpected, LatencyStats.of(latencyNanos, elapsedNanos));
+    }
+
+    private Long openRoom(String prefix, int recruitCount) {
+        Genre genre = genreRepository.save(Genre.builder().genre(GenreType.ETC).build());
+        Book book = bookRepository.save(Book.builder()
+                .genre(genre)
+                .bookTitle("동시성 테스트")
+                .authorName("작가")
+                .build());
+        User host = userRepository.save(user(prefix + "-host"));
+        Room hostRoom = roomRepository.save(Room.builder()
+                .roomType(RoomType.TOGETHER)
+                .userRole(UserRole.HOST)
+                .userPercentage(0.0)
+                .user(host)
+                .book(book)
+                .build());
+
+        LocalDateTime now = LocalDateTime.now();
+        return roomTogetherRepository.save(RoomTogether.builder()
+                .room(hostRoom)
+                .roomName("인기 방")
+                .isPublic(true)
+                .roomPercentage(0.0)
+                .recruitStartDate(now.minusDays(1))
+                .recruitEndDate(now.plusDays(1))
+                .progressStartDate(now.plusDays(2))
+                .progressEndDate(now.plusDays(30))
+                .recruitCount(recruitCount)
+                .recordCount(0)
+                .build()).getReadTogetherId();
+    }
+
+    private User user(String name) {
+        return User.builder()
+                .email(name + "@bookjourney.com")
+                .password("password")
+                .nickname(name)
+                .build();
+    }
+
+    private record JoinResult(Long readTogetherId, int recruitCount, int joinerCount, int joined, int rejectedFull,
+                              List<Throwable> unexpected, LatencyStats stats) {
+    }
+
+    private void assertNoOverbooking(JoinResult result) {
+        assertThat(result.unexpected()).isEmpty();
+        assertThat(result.joined()).isEqualTo(result.recruitCount());
+        assertThat(result.rejectedFull()).isEqualTo(result.joinerCount() - result.recruitCount());
+        assertThat(roomTogetherRepository.findById(result.readTogetherId()).orElseThrow().getMemberCount())
+                .isEqualTo(result.recruitCount());
+        assertThat(roomRepository.sumProgressByReadTogetherIds(List.of(result.readTogetherId())).get(0).memberCount())
+                .isEqualTo((long) result.recruitCount());
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.bookjourneybackend.domain.stats.service;
+
+import com.example.bookjourneybackend.domain.room.Room;
+import com.example.bookjourneybackend.domain.room.readTogether.Record;
+import com.example.bookjourneybackend.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JPA 없이 H2(MySQL 모드)에 필요한 테이블만 만들고 집계 행을 직접 확인한다.
+ */
+class ReadingStatsRollupTest {
+
+    private static final LocalDateTime DAY1 = LocalDateTime.of(2026, 10, 1, 9, 0);
+    private static final LocalDateTime DAY2 = DAY1.plusDays(1);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ReadingStatsRollup rollup;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:reading-stats-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table rooms (room_id bigint primary key)");
+        jdbcTemplate.execute("create table records (record_id bigint auto_increment primary key, room_id bigint, " +
+                "user_id bigint, book_page int, created_at timestamp, status varchar(50))");
+        jdbcTemplate.execute("create table room_daily_stats (room_id bigint, stat_date date, pages_read int, " +
+                "record_count int, max_book_page int, primary key (room_id, stat_date))");
+        jdbcTemplate.execute("create table user_daily_stats (user_id bigint, stat_date date, pages_read int, " +
+                "record_count int, primary key (user_id, stat_date))");
+        jdbcTemplate.execute("create table rollup_backfills (name varchar(50) primary key, completed_at timestamp, " +
+                "backfilled_room_id bigint)");
+        jdbcTemplate.update("insert into rooms values (1), (2)");
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        //방 하나씩 구간을 나눠 이어 하기를 확인한다
+        rollup = new ReadingStatsRollup(jdbcTemplate, transactionManager, 1);
+    }
+
+    @Test
+    void 백필은_방의_최고_페이지보다_앞선_만큼만_센다() {
+        insertRecord(1, 10, 30, DAY1);
+        insertRecord(1, 20, 50, DAY1);
+        //되돌아간 기록은 0
+        insertRecord(1, 10, 40, DAY2);
+        insertRecord(1, 10, 70, DAY2);
+        insertRecord(2, 10, 15, DAY2);
+        insertRecord(2, 10, 99, DAY2, "DELETED");
+
+        rollup.afterSingletonsInstantiated();
+
+        assertThat(roomStat(1, DAY1)).containsEntry("PAGES_READ", 50).containsEntry("RECORD_COUNT", 2)
+                .containsEntry("MAX_BOOK_PAGE", 50);
+        assertThat(roomStat(1, DAY2)).containsEntry("PAGES_READ", 20).containsEntry("RECORD_COUNT", 2)
+                .containsEntry("MAX_BOOK_PAGE", 70);
+        assertThat(roomStat(2, DAY2)).containsEntry("PAGES_READ", 15).containsEntry("RECORD_COUNT", 1);
+        assertThat(userPages(10, DAY1)).isEqualTo(30);
+        assertThat(userPages(20, DAY1)).isEqualTo(20);
+        assertThat(userPages(10, DAY2)).isEqualTo(35);
+    }
+
+    @Test
+    void 완료_표시가_없으면_남아_있던_집계를_지우고_다시_채운다() {
+        insertRecord(1, 10, 30, DAY1);
+        //이전 백필이 중간에 실패했거나 그 사이 들어온 증분
+        jdbcTemplate.update("insert into room_daily_stats values (1, ?, 999, 9, 999)", Timestamp.valueOf(DAY1));
+        jdbcTemplate.update("insert into user_daily_stats values (10, ?, 999, 9)", Timestamp.valueOf(DAY1));
+
+        rollup.afterSingletonsInstantiated();
+
+        assertThat(roomStat(1, DAY1)).containsEntry("PAGES_READ", 30).containsEntry("RECORD_COUNT", 1);
+        assertThat(userPages(10, DAY1)).isEqualTo(30);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from rollup_backfills", Integer.class)).isEqualTo(1);
+
+        //완료 표시가 있으면 다시 돌지 않는다
+        insertRecord(1, 10, 60, DAY1);
+        rollup.afterSingletonsInstantiated();
+        assertThat(roomStat(1, DAY1)).containsEntry("PAGES_READ", 30);
+    }
+
+    @Test
+    void 백필_이후의_기록은_변화량만_더한다() {
+        insertRecord(1, 10, 30, DAY1);
+        rollup.afterSingletonsInstantiated();
+
+        transactionTemplate.executeWithoutResult(status -> rollup.addRecord(record(1, 20, 45, DAY1)));
+        transactionTemplate.executeWithoutResult(status -> rollup.addRecord(record(1, 10, 40, DAY2)));
+
+        assertThat(roomStat(1, DAY1)).containsEntry("PAGES_READ", 45).containsEntry("RECORD_COUNT", 2)
+                .containsEntry("MAX_BOOK_PAGE", 45);
+        assertThat(roomStat(1, DAY2)).containsEntry("PAGES_READ", 0).containsEntry("MAX_BOOK_PAGE", 45);
+        assertThat(userPages(20, DAY1)).isEqualTo(15);
+        assertThat(userPages(10, DAY2)).isEqualTo(0);
+    }
+
+    @Test
+    void 중단된_백필은_진행_위치부터_이어서_하고_그_사이_기록은_한_번만_센다() {
+        insertRecord(1, 10, 30, DAY1);
+        insertRecord(2, 20, 25, DAY1);
+        //방 1까지 끝내고 멈춘 상태
+        jdbcTemplate.update("insert into rollup_backfills (name, backfilled_room_id) values ('reading-stats', 1)");
+        jdbcTemplate.update("insert into room_daily_stats values (1, ?, 30, 1, 30)", Timestamp.valueOf(DAY1));
+        jdbcTemplate.update("insert into user_daily_stats values (10, ?, 30, 1)", Timestamp.valueOf(DAY1));
+
+        //끝난 방은 변화량을 더하고, 아직인 방은 백필이 기록을 읽을 때 센다
+        insertRecord(1, 10, 50, DAY1);
+        transactionTemplate.executeWithoutResult(status -> rollup.addRecord(record(1, 10, 50, DAY1)));
+        insertRecord(2, 10, 40, DAY1);
+        transactionTemplate.executeWithoutResult(status -> rollup.addRecord(record(2, 10, 40, DAY1)));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from room_daily_stats where room_id = 2", Integer.class))
+                .isZero();
+
+        rollup.afterSingletonsInstantiated();
+
+        assertThat(roomStat(1, DAY1)).containsEntry("PAGES_READ", 50).containsEntry("RECORD_COUNT", 2);
+        assertThat(roomStat(2, DAY1)).containsEntry("PAGES_READ", 40).containsEntry("RECORD_COUNT", 2);
+        assertThat(userPages(10, DAY1)).isEqualTo(30 + 20 + 15);
+        assertThat(userPages(20, DAY1)).isEqualTo(25);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from rollup_backfills where completed_at is not null", Integer.class)).isEqualTo(1);
+    }
+
+    private void insertRecord(long roomId, long userId, int bookPage, LocalDateTime createdAt) {
+        insertRecord(roomId, userId, bookPage, createdAt, "ACTIVE");
+    }
+
+    private void insertRecord(long roomId, long userId, int bookPage, LocalDateTime createdAt, String status) {
+        jdbcTemplate.update("insert into records (room_id, user_id, book_page, created_at, status) values (?, ?, ?, ?, ?)",
+                roomId, userId, bookPage, Timestamp.valueOf(createdAt), status);
+    }
+
+    private Map<String, Object> roomStat(long roomId, LocalDateTime day) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "select pages_read, record_count, max_book_page from room_daily_stats where room_id = ? and stat_date = ?",
+                roomId, java.sql.Date.valueOf(day.toLocalDate()));
+        assertThat(rows).hasSize(1);
+        return rows.get(0);
+    }
+
+    private int userPages(long userId, LocalDateTime day) {
+        return jdbcTemplate.queryForObject(
+                "select pages_read from user_daily_stats where user_id = ? and stat_date = ?",
+                Integer.class, userId, java.sql.Date.valueOf(day.toLocalDate()));
+    }
+
+    private static Record record(long roomId, long userId, int bookPage, LocalDateTime createdAt) {
+        Room room = mock(Room.class);
+        when(room.getRoomId()).thenReturn(roomId);
+        User user = mock(User.class);
+        when(user.getUserId()).thenReturn(userId);
+        Record record = mock(Record.class);
+        when(record.getRoom()).thenReturn(room);
+        when(record.getUser()).thenReturn(user);
+        when(record.getBookPage()).thenReturn(bookPage);
+        when(record.getCreatedAt()).thenReturn(createdAt);
+        return record;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.bookjourneybackend.domain.user.service;
+
+import com.example.bookjourneybackend.domain.user.repository.UserRepository;
+import com.example.bookjourneybackend.global.exception.GlobalException;
+import com.example.bookjourneybackend.global.mail.MailDispatcher;
+import com.example.bookjourneybackend.global.store.InMemoryExpiringStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.SimpleMailMessage;
+
+import static com.example.bookjourneybackend.global.response.status.BaseExceptionResponseStatus.TOO_MANY_VERIFICATION_ATTEMPTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailVerificationServiceTest {
+
+    private static final String EMAIL = "reader@test.com";
+
+    private InMemoryExpiringStore expiringStore;
+    private MailDispatcher mailDispatcher;
+    private EmailVerificationService emailVerificationService;
+
+    @BeforeEach
+    void setUp() {
+        expiringStore = new InMemoryExpiringStore(1000, 64, 100);
+        mailDispatcher = mock(MailDispatcher.class);
+        when(mailDispatcher.enqueue(any())).thenReturn(true);
+        emailVerificationService = new EmailVerificationService(expiringStore, mailDispatcher,
+                mock(UserRepository.class), "bookjourney.server@test.com", 1_800_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        expiringStore.shutdown();
+    }
+
+    @Test
+    void 맞는_코드는_한_번만_인증된다() {
+        String code = sendCode();
+
+        assertThat(emailVerificationService.verifyCode(EMAIL, code).verified()).isTrue();
+        assertThat(emailVerificationService.verifyCode(EMAIL, code).verified()).isFalse();
+    }
+
+    @Test
+    void 실패가_MAX_ATTEMPTS_번_쌓이면_코드를_지운다() {
+        String code = sendCode();
+        String wrong = code.equals("000000") ? "000001" : "000000";
+
+        for (int i = 1; i < EmailVerificationService.MAX_ATTEMPTS; i++) {
+            assertThat(emailVerificationService.verifyCode(EMAIL, wrong).verified()).isFalse();
+        }
+        assertThatThrownBy(() -> emailVerificationService.verifyCode(EMAIL, wrong))
+                .isInstanceOf(GlobalException.class)
+                .extracting("exceptionStatus").isEqualTo(TOO_MANY_VERIFICATION_ATTEMPTS);
+
+        //맞는 코드도 더 이상 통하지 않는다
+        assertThat(emailVerificationService.verifyCode(EMAIL, code).verified()).isFalse();
+    }
+
+    @Test
+    void 코드를_다시_받으면_시도_횟수가_초기화된다() {
+        String first = sendCode();
+        String wrong = first.equals("000000") ? "000001" : "000000";
+        for (int i = 1; i < EmailVerificationService.MAX_ATTEMPTS; i++) {
+            emailVerificationService.verifyCode(EMAIL, wrong);
+        }
+
+        String second = sendCode();
+        assertThat(emailVerificationService.verifyCode(EMAIL, second).verified()).isTrue();
+    }
+
+    private String sendCode() {
+        emailVerificationService.sendVerificationCode(EMAIL);
+        ArgumentCaptor<SimpleMailMessage> message = ArgumentCaptor.forClass(SimpleMailMessage.class);
+        verify(mailDispatcher, atLeastOnce()).enqueue(message.capture());
+        return message.getValue().getText().replace("인증 코드: ", "");
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.bookjourneybackend.global.archive;
+
+import com.example.bookjourneybackend.domain.book.Book;
+import com.example.bookjourneybackend.domain.book.Genre;
+import com.example.bookjourneybackend.domain.book.repository.BookRepository;
+import com.example.bookjourneybackend.domain.book.repository.GenreRepository;
+import com.example.bookjourneybackend.domain.room.Room;
+import com.example.bookjourneybackend.domain.room.readTogether.Record;
+import com.example.bookjourneybackend.domain.room.readTogether.dto.response.RecordInfo;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.RecordRepository;
+import com.example.bookjourneybackend.domain.room.repository.RoomRepository;
+import com.example.bookjourneybackend.domain.user.User;
+import com.example.bookjourneybackend.domain.user.repository.UserRepository;
+import com.example.bookjourneybackend.global.entity.GenreType;
+import com.example.bookjourneybackend.global.entity.RoomType;
+import com.example.bookjourneybackend.global.entity.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StatusArchiverTest {
+
+    @Autowired
+    private StatusArchiver statusArchiver;
+    @Autowired
+    private SupersededIndexMigration supersededIndexMigration;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RecordRepository recordRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Test
+    void 삭제된_기록은_조회와_피드에서_빠지고_아카이브로_옮겨진다() {
+        Room room = room("archive-" + System.nanoTime());
+        Long activeId = recordRepository.save(record(room, 10)).getRecordId();
+        Long deletedId = recordRepository.save(record(room, 20)).getRecordId();
+        jdbcTemplate.update("update records set status = 'DELETED' where record_id = ?", deletedId);
+
+        //@SQLRestriction: id 조회와 피드 쿼리 모두 ACTIVE 만 본다
+        assertThat(recordRepository.findById(deletedId)).isEmpty();
+        assertThat(recordRepository.findById(activeId)).isPresent();
+        assertThat(recordRepository.findFirstPageByRoomId(room.getRoomId(), PageRequest.of(0, 20)))
+                .extracting(RecordInfo::recordId)
+                .containsExactly(activeId);
+
+        assertThat(statusArchiver.archiveBatch(ArchiveTarget.RECORDS)).isPositive();
+
+        assertThat(count("records", deletedId)).isZero();
+        assertThat(count("records_archive", deletedId)).isEqualTo(1);
+        assertThat(count("records", activeId)).isEqualTo(1);
+        assertThat(count("records_archive", activeId)).isZero();
+    }
+
+    @Test
+    void 남아_있는_예전_인덱스를_지운다() {
+        jdbcTemplate.execute("create index idx_records_room_page_id on records (room_id, book_page, record_id)");
+
+        supersededIndexMigration.afterSingletonsInstantiated();
+        //다시 실행해도 아무 일도 하지 않는다
+        supersededIndexMigration.afterSingletonsInstantiated();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.indexes where lower(index_name) = 'idx_records_room_page_id'",
+                Integer.class)).isZero();
+    }
+
+    private int count(String table, Long recordId) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table + " where record_id = ?", Integer.class, recordId);
+    }
+
+    private Room room(String name) {
+        Genre genre = genreRepository.save(Genre.builder().genre(GenreType.ETC).build());
+        Book book = bookRepository.save(Book.builder()
+                .genre(genre)
+                .bookTitle("아카이브 테스트")
+                .authorName("작가")
+                .build());
+        User user = userRepository.save(User.builder()
+                .email(name + "@bookjourney.com")
+                .password("password")
+                .nickname(name)
+                .build());
+        return roomRepository.save(Room.builder()
+                .roomType(RoomType.ALONE)
+                .userRole(UserRole.HOST)
+                .userPercentage(0.0)
+                .user(user)
+                .book(book)
+                .build());
+    }
+
+    private Record record(Room room, int bookPage) {
+        return Record.builder()
+                .room(room)
+                .user(room.getUser())
+                .bookPage(bookPage)
+                .content("기록 " + bookPage)
+                .build();
+    }
+}
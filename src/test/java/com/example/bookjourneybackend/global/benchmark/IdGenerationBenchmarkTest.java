@@ -0,0 +1,91 @@
+package com.example.bookjourneybackend.global.benchmark;
+
+import com.example.benchmark.IdentityBenchEntity;
+import com.example.benchmark.PooledBenchEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY 와 pooled table generator 의 insert 처리량 비교.
+ * ./gradlew test --tests '*IdGenerationBenchmarkTest' -Dbenchmark=true
+ * 벤치마크 엔티티만 등록한 EntityManagerFactory 를 따로 만든다 (애플리케이션 컨텍스트에는 들어가지 않는다).
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class IdGenerationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(IdGenerationBenchmarkTest.class);
+
+    private static final int ROWS = 20_000;
+    private static final int FLUSH_SIZE = 50;
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(new DriverManagerDataSource(
+                "jdbc:h2:mem:id-benchmark-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        factory.setManagedTypes(PersistenceManagedTypes.of(
+                IdentityBenchEntity.class.getName(), PooledBenchEntity.class.getName()));
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        //애플리케이션 설정(application.yml 의 hibernate.jdbc)과 같은 배치 조건
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.jdbc.batch_size", String.valueOf(FLUSH_SIZE),
+                "hibernate.order_inserts", "true"));
+        factory.afterPropertiesSet();
+        emf = factory.getObject();
+        em = emf.createEntityManager();
+    }
+
+    @AfterEach
+    void tearDown() {
+        em.close();
+        emf.close();
+    }
+
+    @Test
+    void pooled_id_는_배치_insert_로_IDENTITY_보다_빠르다() {
+        //워밍업
+        insert(2_000, IdentityBenchEntity::new);
+        insert(2_000, PooledBenchEntity::new);
+
+        double identity = insert(ROWS, IdentityBenchEntity::new);
+        double pooled = insert(ROWS, PooledBenchEntity::new);
+
+        log.info("[IdGenerationBenchmark] {}", String.format("IDENTITY: %.0f rows/s, pooled: %.0f rows/s (x%.2f)",
+                identity, pooled, pooled / identity));
+        assertThat(pooled).isGreaterThan(identity);
+    }
+
+    private double insert(int rows, Function<String, Object> factory) {
+        long start = System.nanoTime();
+        em.getTransaction().begin();
+        for (int i = 0; i < rows; i++) {
+            em.persist(factory.apply("content-" + i));
+            if ((i + 1) % FLUSH_SIZE == 0) {
+                em.flush();
+                em.clear();
+            }
+        }
+        em.getTransaction().commit();
+        em.clear();
+        return rows / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+}
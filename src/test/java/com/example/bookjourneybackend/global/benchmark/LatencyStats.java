@@ -0,0 +1,38 @@
+package com.example.bookjourneybackend.global.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * 벤치마크 테스트에서 쓰는 처리량/지연 분위수 계산. 결과는 각 테스트가 로거로 남긴다.
+ */
+public final class LatencyStats {
+
+    private final long[] sortedNanos;
+    private final double seconds;
+
+    private LatencyStats(long[] sortedNanos, double seconds) {
+        this.sortedNanos = sortedNanos;
+        this.seconds = seconds;
+    }
+
+    public static LatencyStats of(long[] latencyNanos, long elapsedNanos) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+        return new LatencyStats(sorted, elapsedNanos / 1_000_000_000.0);
+    }
+
+    public double throughput() {
+        return sortedNanos.length / seconds;
+    }
+
+    public double percentileMillis(double percentile) {
+        int index = Math.max(0, (int) Math.ceil(sortedNanos.length * percentile) - 1);
+        return sortedNanos[index] / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.0f ops/s, p50 %.1f ms, p99 %.1f ms",
+                throughput(), percentileMillis(0.5), percentileMillis(0.99));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.bookjourneybackend.global.benchmark;
+
+import com.example.bookjourneybackend.BookJourneyBackendApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * platform thread 모드와 virtual thread 모드의 처리량/p99 비교.
+ * 요청마다 느린 외부 호출(SMTP, HTTP 등)을 흉내 낸 대기 후 DB 를 한 번 조회한다.
+ * ./gradlew test -PvirtualThreads --tests '*VirtualThreadLoadTest' -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final int CONCURRENCY = 1_000;
+    private static final int REQUESTS = 20_000;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final long SLOW_CALL_MILLIS = 50;
+
+    @Test
+    void 느린_I_O_가_섞인_요청에서_virtual_thread_모드의_처리량과_p99_가_더_낫다() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        log.info("[VirtualThreadLoad] platform: {}, errors {}", platform.stats(), platform.errors());
+        log.info("[VirtualThreadLoad] virtual : {}, errors {}", virtual.stats(), virtual.errors());
+        assertThat(virtual.errors()).isZero();
+        assertThat(virtual.stats().throughput()).isGreaterThan(platform.stats().throughput());
+        assertThat(virtual.stats().percentileMillis(0.99)).isLessThan(platform.stats().percentileMillis(0.99));
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        //두 모드 모두 virtual-threads 프로필의 커넥션 풀 설정을 쓰고 스레드 모드만 바꾼다
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BookJourneyBackendApplication.class)
+                .profiles("load-test", "virtual-threads")
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads + ";MODE=MYSQL",
+                        "spring.jpa.show-sql=false",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        //결과 로그는 남긴다
+                        "logging.level.com.example.bookjourneybackend.global.benchmark=INFO")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/load-test/slow");
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+            load(client, uri, WARMUP_REQUESTS);
+            return load(client, uri, REQUESTS);
+        }
+    }
+
+    private Result load(HttpClient client, URI uri, int requests) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[requests];
+
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int index = i;
+            long sent = System.nanoTime();
+            futures[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        latencies[index] = System.nanoTime() - sent;
+                        if (e != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        inFlight.release();
+                    });
+        }
+        CompletableFuture.allOf(futures).exceptionally(e -> null).join();
+        return new Result(LatencyStats.of(latencies, System.nanoTime() - started), errors.get());
+    }
+
+    private record Result(LatencyStats stats, int errors) {
+    }
+
+    @RestController
+    @Profile("load-test")
+    static class SlowEndpoint {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        SlowEndpoint(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @GetMapping("/load-test/slow")
+        public Integer slow() throws InterruptedException {
+            Thread.sleep(SLOW_CALL_MILLIS);
+            return jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        }
+    }
+}
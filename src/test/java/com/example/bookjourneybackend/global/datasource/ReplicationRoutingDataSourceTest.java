@@ -0,0 +1,155 @@
+package com.example.bookjourneybackend.global.datasource;
+
+import com.example.bookjourneybackend.global.query.QueryInspectionConfig;
+import com.example.bookjourneybackend.global.query.QueryStats;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * primary/복제본 대신 H2 인메모리 DB 두 개를 띄우고, 각 DB 의 node 테이블에 적힌 이름으로 어디서 읽었는지 확인한다.
+ * dev 프로필과 같이 LazyConnectionDataSourceProxy 를 QueryInspectionConfig 의 계측 프록시로 한 번 더 감싼 상태에서 검증한다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private static final long STICKY_MILLIS = 3000;
+
+    private SwitchableDataSource replica;
+    private ReplicaPool replicaPool;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("routing-primary");
+        replica = new SwitchableDataSource("routing-replica");
+        new JdbcTemplate(primary).execute("create table if not exists node (name varchar(20))");
+        new JdbcTemplate(primary).execute("merge into node key (name) values ('primary')");
+        new JdbcTemplate(replica).execute("create table if not exists node (name varchar(20))");
+        new JdbcTemplate(replica).execute("merge into node key (name) values ('replica')");
+
+        replicaPool = new ReplicaPool(Map.of("replica-0", replica));
+        DataSource dataSource = (DataSource) QueryInspectionConfig.queryInspectingDataSourcePostProcessor()
+                .postProcessAfterInitialization(
+                        new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(primary, replicaPool)),
+                        "dataSource");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void 읽기전용_트랜잭션은_복제본_나머지는_primary_에서_실행된다() {
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> node())).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    void 계측_프록시를_거쳐도_복제본에서_읽은_쿼리가_집계된다() {
+        try (QueryStats stats = QueryStats.start()) {
+            assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+            assertThat(readWrite.execute(status -> node())).isEqualTo("primary");
+
+            assertThat(stats.queryCount()).isEqualTo(2);
+            assertThat(stats.rowCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void 쓰기_직후_같은_사용자의_읽기는_primary_에서_한다() {
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        try (ReadYourWrites ignored = ReadYourWrites.open(new MockHttpServletRequest(), writeResponse, STICKY_MILLIS)) {
+            readWrite.executeWithoutResult(status -> node());
+            //같은 요청 안에서 이어지는 읽기
+            assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+        }
+        Cookie cookie = writeResponse.getCookie(ReadYourWrites.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+
+        //쿠키를 가진 다음 요청
+        MockHttpServletRequest sameUser = new MockHttpServletRequest();
+        sameUser.setCookies(cookie);
+        try (ReadYourWrites ignored = ReadYourWrites.open(sameUser, new MockHttpServletResponse(), STICKY_MILLIS)) {
+            assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+        }
+
+        //다른 사용자, 그리고 만료된 쿠키
+        try (ReadYourWrites ignored = ReadYourWrites.open(new MockHttpServletRequest(), new MockHttpServletResponse(), STICKY_MILLIS)) {
+            assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+        }
+        MockHttpServletRequest expired = new MockHttpServletRequest();
+        expired.setCookies(new Cookie(ReadYourWrites.COOKIE_NAME, String.valueOf(System.currentTimeMillis() - 1)));
+        try (ReadYourWrites ignored = ReadYourWrites.open(expired, new MockHttpServletResponse(), STICKY_MILLIS)) {
+            assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+        }
+
+        //sticky-millis 보다 먼 미래 값은 서버가 준 값이 아니다
+        MockHttpServletRequest forged = new MockHttpServletRequest();
+        forged.setCookies(new Cookie(ReadYourWrites.COOKIE_NAME, String.valueOf(Long.MAX_VALUE)));
+        try (ReadYourWrites ignored = ReadYourWrites.open(forged, new MockHttpServletResponse(), STICKY_MILLIS)) {
+            assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+        }
+    }
+
+    @Test
+    void 복제본이_죽으면_primary_에서_읽고_health_check_가_통과하면_되돌린다() {
+        replica.down = true;
+        //health check 전이라도 커넥션 획득에 실패하면 바로 빼고 primary 로 넘긴다
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+        assertThat(replicaPool.healthyCount()).isZero();
+
+        replica.down = false;
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+        replicaPool.checkHealth();
+        assertThat(replicaPool.healthyCount()).isEqualTo(1);
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+
+        replica.down = true;
+        replicaPool.checkHealth();
+        assertThat(replicaPool.healthyCount()).isZero();
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static final class SwitchableDataSource extends DriverManagerDataSource {
+
+        private volatile boolean down;
+
+        private SwitchableDataSource(String name) {
+            super("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        }
+
+        @Override
+        protected Connection getConnectionFromDriver(String username, String password) throws SQLException {
+            if (down) {
+                throw new SQLException("replica is down");
+            }
+            return super.getConnectionFromDriver(username, password);
+        }
+    }
+}
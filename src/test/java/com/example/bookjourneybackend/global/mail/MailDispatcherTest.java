@@ -0,0 +1,77 @@
+package com.example.bookjourneybackend.global.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private SimpleMeterRegistry meterRegistry;
+    private MailDispatcher mailDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        meterRegistry = new SimpleMeterRegistry();
+        mailDispatcher = new MailDispatcher(mailSender, meterRegistry, 100, 2, 10, 3, 50);
+        mailDispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        mailDispatcher.shutdown();
+    }
+
+    @Test
+    void 큐에_넣은_메일은_발송_스레드가_전송한다() throws InterruptedException {
+        for (int i = 0; i < 30; i++) {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom("bookjourney.server@test.com");
+            message.setTo("user" + i + "@test.com");
+            message.setSubject("인증 코드");
+            message.setText("123456");
+            assertThat(mailDispatcher.enqueue(message)).isTrue();
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 30)).isTrue();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(30);
+        //GreenMail 이 받은 직후에도 발송 스레드가 아직 카운터를 올리기 전일 수 있다
+        assertThat(awaitSentCount(30)).isEqualTo(30.0);
+        assertThat(mailDispatcher.queueDepth()).isZero();
+    }
+
+    @Test
+    void 큐가_가득_차면_enqueue_가_거절된다() throws InterruptedException {
+        mailDispatcher.shutdown();
+        MailDispatcher stopped = new MailDispatcher(new JavaMailSenderImpl(), new SimpleMeterRegistry(), 1, 1, 1, 1, 50);
+
+        assertThat(stopped.enqueue(new SimpleMailMessage())).isTrue();
+        assertThat(stopped.enqueue(new SimpleMailMessage())).isFalse();
+    }
+
+    private double awaitSentCount(double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        double sent = meterRegistry.get("mail.sent").counter().count();
+        while (sent < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            sent = meterRegistry.get("mail.sent").counter().count();
+        }
+        return sent;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.bookjourneybackend.global.query;
+
+import com.example.bookjourneybackend.domain.book.Book;
+import com.example.bookjourneybackend.domain.book.Genre;
+import com.example.bookjourneybackend.domain.book.repository.BookRepository;
+import com.example.bookjourneybackend.domain.book.repository.GenreRepository;
+import com.example.bookjourneybackend.domain.room.Room;
+import com.example.bookjourneybackend.domain.room.readTogether.Record;
+import com.example.bookjourneybackend.domain.room.readTogether.repository.RecordRepository;
+import com.example.bookjourneybackend.domain.room.readTogether.service.RecordService;
+import com.example.bookjourneybackend.domain.room.repository.RoomRepository;
+import com.example.bookjourneybackend.domain.user.User;
+import com.example.bookjourneybackend.domain.user.repository.UserRepository;
+import com.example.bookjourneybackend.global.entity.GenreType;
+import com.example.bookjourneybackend.global.entity.RoomType;
+import com.example.bookjourneybackend.global.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 쿼리 예산. 연관 엔티티를 목록에서 하나씩 읽게 되면(N+1) 쿼리 수가 페이지 크기만큼 늘어 실패한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class QueryBudgetTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private RecordService recordService;
+    @Autowired
+    private GenreRepository genreRepository;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoomRepository roomRepository;
+    @Autowired
+    private RecordRepository recordRepository;
+
+    private Long roomId;
+    private Long recordId;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = "budget-" + System.nanoTime();
+        Genre genre = genreRepository.save(Genre.builder().genre(GenreType.ESSAY).build());
+        Book book = bookRepository.save(Book.builder()
+                .genre(genre)
+                .bookTitle("쿼리 예산 테스트")
+                .authorName("작가")
+                .build());
+
+        //작성자가 모두 달라야 user 를 하나씩 읽을 때 N+1 이 드러난다
+        List<User> writers = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            writers.add(User.builder().email(prefix + "-" + i + "@test.com").password("password").nickname("작성자" + i).build());
+        }
+        writers = userRepository.saveAll(writers);
+
+        Room room = roomRepository.save(Room.builder()
+                .roomType(RoomType.ALONE)
+                .userRole(UserRole.HOST)
+                .userPercentage(0.0)
+                .user(writers.get(0))
+                .book(book)
+                .build());
+        roomId = room.getRoomId();
+
+        List<Record> records = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            records.add(Record.builder().room(room).user(writers.get(i)).bookPage(i).content("기록 " + i).build());
+        }
+        recordId = recordRepository.saveAll(records).get(0).getRecordId();
+    }
+
+    @Test
+    void 기록_피드는_페이지_크기와_상관없이_쿼리_2개_이내다() throws Exception {
+        MvcResult result = mockMvc.perform(get("/rooms/{roomId}/records", roomId).param("size", String.valueOf(PAGE_SIZE)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertQueryBudget(result, 2);
+    }
+
+    @Test
+    void 기록_카드는_작성자_도서_이미지까지_쿼리_1개로_읽는다() throws Exception {
+        MvcResult result = mockMvc.perform(get("/records/{recordId}", recordId))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertQueryBudget(result, 1);
+    }
+
+    @Test
+    void 도서_검색은_쿼리_2개_이내다() throws Exception {
+        MvcResult result = mockMvc.perform(get("/books/search").param("keyword", "쿼리 예산").param("size", "20"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertQueryBudget(result, 2);
+    }
+
+    @Test
+    void 서비스_호출도_QueryStats_로_직접_잴_수_있다() {
+        try (QueryStats stats = QueryStats.start()) {
+            recordService.getRecordFeed(roomId, null, null, PAGE_SIZE);
+
+            assertThat(stats.queryCount()).isLessThanOrEqualTo(2);
+            assertThat(stats.maxRepeat()).isEqualTo(1);
+            assertThat(stats.rowCount()).isGreaterThanOrEqualTo(PAGE_SIZE);
+        }
+    }
+
+    private static void assertQueryBudget(MvcResult result, int maxQueries) {
+        int queryCount = Integer.parseInt(result.getResponse().getHeader(QueryInspectionFilter.QUERY_COUNT_HEADER));
+        int maxRepeat = Integer.parseInt(result.getResponse().getHeader(QueryInspectionFilter.MAX_REPEAT_HEADER));
+        assertThat(queryCount).as("query count").isLessThanOrEqualTo(maxQueries);
+        assertThat(maxRepeat).as("same statement executed repeatedly").isLessThanOrEqualTo(1);
+    }
+}
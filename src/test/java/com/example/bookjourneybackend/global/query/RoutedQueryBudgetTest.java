@@ -0,0 +1,14 @@
+package com.example.bookjourneybackend.global.query;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * dev 프로필처럼 읽기/쓰기 분리와 쿼리 계측을 함께 켠 상태의 쿼리 예산.
+ * 복제본은 primary 와 같은 H2 DB 를 가리켜 복제 지연이 없는 복제본으로 쓴다.
+ */
+@SpringBootTest(properties = {
+        "datasource-routing.enabled=true",
+        "datasource-routing.replicas[0].url=jdbc:h2:mem:BookJourneyBackendApplication;MODE=MYSQL"
+})
+class RoutedQueryBudgetTest extends QueryBudgetTest {
+}
@@ -0,0 +1,66 @@
+package com.example.bookjourneybackend.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingBaseResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 끝까지_쓰면_BaseResponse_와_같은_봉투의_JSON_이다() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response(sink -> {
+            sink.write(new Item(1, "a"));
+            sink.write(new Item(2, "b"));
+        }, false).writeTo(out);
+
+        JsonNode body = objectMapper.readTree(out.toByteArray());
+        assertThat(body.get("code").asInt()).isEqualTo(200);
+        assertThat(body.get("data")).hasSize(2);
+    }
+
+    @Test
+    void 도중에_실패한_JSON_응답은_닫히지_않아_파싱할_수_없다() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StreamingBaseResponse<Item> response = response(sink -> {
+            sink.write(new Item(1, "a"));
+            sink.write(new Item(2, "b"));
+            throw new IllegalStateException("page fetch failed");
+        }, false);
+
+        assertThatThrownBy(() -> response.writeTo(out)).isInstanceOf(IllegalStateException.class);
+        assertThat(out.toString(StandardCharsets.UTF_8)).contains("\"name\":\"b\"");
+        assertThatThrownBy(() -> objectMapper.readTree(out.toByteArray()))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    void 도중에_실패한_NDJSON_응답은_마지막_줄에_에러_봉투를_남긴다() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response(sink -> {
+            sink.write(new Item(1, "a"));
+            throw new IllegalStateException("page fetch failed");
+        }, true).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readTree(lines[2]).get("code").asInt()).isEqualTo(500);
+    }
+
+    private StreamingBaseResponse<Item> response(StreamingBaseResponse.ElementSource<Item> source, boolean ndjson) {
+        return new StreamingBaseResponse<>(objectMapper, HttpStatus.OK, HttpStatus.OK.name(), source, ndjson);
+    }
+
+    private record Item(long id, String name) {
+    }
+}
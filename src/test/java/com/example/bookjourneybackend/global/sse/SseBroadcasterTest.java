@@ -0,0 +1,121 @@
+package com.example.bookjourneybackend.global.sse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseBroadcasterTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+    private SseBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void 발행한_이벤트를_구독자가_순서대로_받는다() throws InterruptedException {
+        broadcaster = broadcaster(16, 60_000);
+        RecordingEmitter first = (RecordingEmitter) broadcaster.subscribe("1", null);
+        RecordingEmitter second = (RecordingEmitter) broadcaster.subscribe("1", null);
+
+        broadcaster.publish("1", "record", "a");
+        broadcaster.publish("1", "record", "b");
+        broadcaster.publish("2", "record", "other room");
+
+        first.await(2);
+        second.await(2);
+        assertThat(first.events).hasSize(2);
+        assertThat(first.events.get(0)).contains("event:record").contains("a");
+        assertThat(first.events.get(1)).contains("b");
+        assertThat(second.events).isEqualTo(first.events);
+    }
+
+    @Test
+    void Last_Event_ID_이후의_이벤트만_다시_보낸다() throws InterruptedException {
+        broadcaster = broadcaster(16, 60_000);
+        RecordingEmitter first = (RecordingEmitter) broadcaster.subscribe("1", null);
+        broadcaster.publish("1", "record", "a");
+        broadcaster.publish("1", "record", "b");
+        broadcaster.publish("1", "record", "c");
+        first.await(3);
+
+        RecordingEmitter reconnected = (RecordingEmitter) broadcaster.subscribe("1", eventId(first.events.get(0)));
+        reconnected.await(2);
+        assertThat(reconnected.events).containsExactly(first.events.get(1), first.events.get(2));
+
+        RecordingEmitter invalid = (RecordingEmitter) broadcaster.subscribe("1", "not-an-id");
+        invalid.await(1);
+        assertThat(invalid.events.get(0)).contains("event:" + SseBroadcaster.RESET_EVENT);
+    }
+
+    @Test
+    void 빈_채널_정리와_겹친_구독도_채널에_남는다() throws InterruptedException {
+        //보관 시간 0: heartbeat 가 구독자 없는 채널을 보는 즉시 지운다.
+        //heartbeat 가 계속 돌아도 느린 구독자로 끊기지 않도록 버퍼를 넉넉히 둔다
+        broadcaster = broadcaster(1024, 0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread cleaner = new Thread(() -> {
+            while (running.get()) {
+                broadcaster.heartbeat();
+            }
+        });
+        cleaner.start();
+        try {
+            for (long channelId = 0; channelId < 1_000; channelId++) {
+                broadcaster.subscribe(String.valueOf(channelId), null);
+                assertThat(broadcaster.subscriberCount(String.valueOf(channelId))).as("channel %d", channelId).isEqualTo(1);
+            }
+        } finally {
+            running.set(false);
+            cleaner.join();
+        }
+    }
+
+    private static String eventId(String event) {
+        Matcher matcher = EVENT_ID.matcher(event);
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+
+    private static SseBroadcaster broadcaster(int bufferSize, long historyRetentionMillis) {
+        return new SseBroadcaster(bufferSize, 100, 60_000, historyRetentionMillis, 2) {
+            @Override
+            SseEmitter createEmitter() {
+                return new RecordingEmitter();
+            }
+        };
+    }
+
+    //응답에 쓰는 대신 이벤트 문자열을 모은다
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> text.append(part.getData()));
+            if (!text.toString().startsWith(":")) {
+                events.add(text.toString());
+            }
+        }
+
+        private void await(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 2_000;
+            while (events.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
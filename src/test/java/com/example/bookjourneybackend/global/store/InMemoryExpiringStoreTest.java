@@ -0,0 +1,47 @@
+package com.example.bookjourneybackend.global.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryExpiringStoreTest {
+
+    private InMemoryExpiringStore store;
+
+    @BeforeEach
+    void setUp() {
+        //ticker 가 테스트 도중 돌지 않도록 tick 을 길게 둔다
+        store = new InMemoryExpiringStore(60_000, 16, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    @Test
+    void 덮어쓰거나_지운_항목은_버킷에서도_빠진다() {
+        store.put("a", "1", Duration.ofMinutes(5));
+        store.put("a", "2", Duration.ofMinutes(30));
+        store.put("b", "1", Duration.ofMinutes(5));
+        assertThat(store.scheduledCount()).isEqualTo(2);
+
+        store.remove("a");
+        store.remove("b");
+        assertThat(store.scheduledCount()).isZero();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void increment_는_만료_시각을_유지하며_1씩_올린다() {
+        assertThat(store.increment("count", Duration.ofMinutes(5))).isEqualTo(1);
+        assertThat(store.increment("count", Duration.ofMinutes(5))).isEqualTo(2);
+        assertThat(store.increment("count", Duration.ofMinutes(5))).isEqualTo(3);
+        assertThat(store.get("count")).contains("3");
+        assertThat(store.scheduledCount()).isEqualTo(1);
+    }
+}